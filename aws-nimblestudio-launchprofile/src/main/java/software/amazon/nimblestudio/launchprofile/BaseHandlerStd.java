@@ -1,12 +1,24 @@
 package software.amazon.nimblestudio.launchprofile;
 
+import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.LaunchProfile;
+import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
+import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
+import software.amazon.awssdk.services.nimble.model.NimbleException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.nimblestudio.common.ClientBuilder;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.NimbleProxyClients;
+import software.amazon.nimblestudio.common.Stabilizer;
+import software.amazon.nimblestudio.common.ThrottleRetryProxyClient;
+
+import java.time.Duration;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -17,11 +29,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger) {
 
+        logger.log(String.format("NimbleClient %s, %s", ClientBuilder.describeClientUsage(),
+            ThrottleRetryProxyClient.describeUsage()));
+
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final InvocationDeadline deadline = InvocationDeadline.of(proxy, logger);
         return handleRequest(
             proxy,
             request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(() -> ClientBuilder.getClient()),
+            context,
+            NimbleProxyClients.decorate(proxy, request, deadline, context, BaseHandlerStd::isSettled),
+            deadline,
             logger
         );
     }
@@ -31,5 +49,53 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger);
+
+    /**
+     * Only GetLaunchProfile responses for a resource that is not transitioning can be served again.
+     */
+    static boolean isSettled(final AwsResponse response) {
+        if (!(response instanceof GetLaunchProfileResponse)) {
+            return false;
+        }
+
+        final LaunchProfile launchProfile = ((GetLaunchProfileResponse) response).launchProfile();
+        return launchProfile != null && !String.valueOf(launchProfile.stateAsString()).endsWith("_IN_PROGRESS");
+    }
+
+    /**
+     * Stabilization settings shared by the handlers of this resource type.
+     */
+    static Stabilizer.Builder<LaunchProfile, LaunchProfileState> stabilizer(final String operation) {
+        return Stabilizer.<LaunchProfile, LaunchProfileState>builder(ResourceModel.TYPE_NAME, LaunchProfile::state,
+                launchProfile -> String.format("%s: %s - %s", launchProfile.stateAsString(), launchProfile.statusCodeAsString(),
+                        launchProfile.statusMessage()))
+            .operation(operation)
+            .polling(Duration.ofSeconds(2), Duration.ofSeconds(20));
+    }
+
+    /**
+     * Update and Delete are sent without checking the launch profile first. A conflict is how the service rejects
+     * them both for a launch profile that is gone and for one busy with another change, so only then is the current
+     * state looked up to tell the two apart. Returns null if it can't be read, leaving the conflict as the outcome.
+     */
+    static LaunchProfileState stateAfterConflict(final ProxyClient<NimbleClient> proxyClient, final String studioId,
+                                                 final String launchProfileId) {
+        final GetLaunchProfileRequest getLaunchProfileRequest = GetLaunchProfileRequest.builder()
+            .studioId(studioId)
+            .launchProfileId(launchProfileId)
+            .build();
+
+        try {
+            return proxyClient.injectCredentialsAndInvokeV2(getLaunchProfileRequest,
+                proxyClient.client()::getLaunchProfile).launchProfile().state();
+        } catch (final NimbleException e) {
+            return null;
+        }
+    }
+
+    static boolean isGone(final LaunchProfileState state) {
+        return LaunchProfileState.DELETED.equals(state) || LaunchProfileState.CREATE_FAILED.equals(state);
+    }
 }
@@ -5,30 +5,45 @@ import software.amazon.awssdk.services.nimble.model.CreateLaunchProfileRequest;
 import software.amazon.awssdk.services.nimble.model.CreateLaunchProfileResponse;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.LaunchProfile;
 import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
 import software.amazon.awssdk.utils.StringUtils;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final String CALL_GRAPH = "AWS-NimbleStudio-LaunchProfile::Create";
+
+    private static final Stabilizer<LaunchProfile, LaunchProfileState> STABILIZER = stabilizer("creation")
+        .succeededOn(LaunchProfileState.READY)
+        .inProgressOn(LaunchProfileState.CREATE_IN_PROGRESS)
+        .failedOn(LaunchProfileState.CREATE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> stabilization = STABILIZER.begin(callbackContext,
+            deadline);
+        final ReferenceValidator references = new ReferenceValidator();
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
-                    "AWS-NimbleStudio-LaunchProfile::Create",
+                    CALL_GRAPH,
                     proxyClient,
                     progress.getResourceModel(),
                     progress.getCallbackContext()
@@ -50,23 +65,40 @@ public class CreateHandler extends BaseHandlerStd {
 
                     return createLaunchProfileRequestBuilder.build();
                 })
+                .backoffDelay(stabilization)
                 .makeServiceCall((awsRequest, client) -> {
+                    callbackContext.evictRequestRecord(CALL_GRAPH);
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] creation already requested", ResourceModel.TYPE_NAME,
+                            callbackContext.getMutatedResourceId()));
+                        return null;
+                    }
+
+                    references.validate(client, awsRequest.studioId(), awsRequest.studioComponentIds(),
+                        awsRequest.streamConfiguration() == null ? null
+                            : awsRequest.streamConfiguration().streamingImageIds());
+
                     try {
                         final CreateLaunchProfileResponse createLaunchProfileResponse = client
                                 .injectCredentialsAndInvokeV2(awsRequest, client.client()::createLaunchProfile);
+                        callbackContext.setMutatedResourceId(
+                            createLaunchProfileResponse.launchProfile().launchProfileId());
 
                         logger.log(String.format("%s [%s] creation requested successfully", ResourceModel.TYPE_NAME,
                                 createLaunchProfileResponse.launchProfile().launchProfileId()));
 
-                        return createLaunchProfileResponse;
+                        return null;
                     } catch (final NimbleException e) {
                         logger.log(String.format("Exception during creation: %s", ResourceModel.TYPE_NAME));
                         throw Translator.translateToCfnException(e);
                     }
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
-                    final String launchProfileId = awsResponse.launchProfile().launchProfileId();
+                    final String launchProfileId = context.getMutatedResourceId();
                     model.setLaunchProfileId(launchProfileId);
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
 
                     GetLaunchProfileRequest getLaunchProfileRequest = GetLaunchProfileRequest.builder()
                         .studioId(awsRequest.studioId())
@@ -83,26 +115,12 @@ public class CreateHandler extends BaseHandlerStd {
                         throw Translator.translateToCfnException(e);
                     }
 
-                    if (LaunchProfileState.CREATE_IN_PROGRESS.equals(getLaunchProfileResponse.launchProfile().state())) {
-                        logger.log(String.format("%s [%s] is in state CREATE_IN_PROGRESS, creation in progress",
-                                ResourceModel.TYPE_NAME, launchProfileId));
-                        return false;
-                    }
-                    if (LaunchProfileState.READY.equals(getLaunchProfileResponse.launchProfile().state())) {
-                        logger.log(String.format("%s [%s] is in state READY, creation succeeded",
-                                ResourceModel.TYPE_NAME, launchProfileId));
-                        return true;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, creation failed", ResourceModel.TYPE_NAME,
-                            launchProfileId, getLaunchProfileResponse.launchProfile().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                            getLaunchProfileResponse.launchProfile().stateAsString(),
-                            getLaunchProfileResponse.launchProfile().statusCodeAsString(),
-                            getLaunchProfileResponse.launchProfile().statusMessage()));
+                    return stabilization.isStabilized(launchProfileId, getLaunchProfileResponse.launchProfile(),
+                        logger);
                 })
                 .progress()
-            )
-            .then((r) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            ))
+            .then((r) -> new ReadHandler()
+                .handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger));
     }
 }
@@ -1,14 +1,14 @@
 package software.amazon.nimblestudio.launchprofile;
 
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.DeleteLaunchProfileRequest;
-import software.amazon.awssdk.services.nimble.model.DeleteLaunchProfileResponse;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.LaunchProfile;
 import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
 import software.amazon.awssdk.services.nimble.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -16,21 +16,35 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final String CALL_GRAPH = "AWS-NimbleStudio-LaunchProfile::Delete";
+
+    private static final Stabilizer<LaunchProfile, LaunchProfileState> STABILIZER = stabilizer("deletion")
+        .succeededOn(LaunchProfileState.DELETED)
+        .inProgressOn(LaunchProfileState.DELETE_IN_PROGRESS)
+        .failedOn(LaunchProfileState.DELETE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> stabilization = STABILIZER.begin(callbackContext,
+            deadline);
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
-                    "AWS-NimbleStudio-LaunchProfile::Delete",
+                    CALL_GRAPH,
                     proxyClient,
                     progress.getResourceModel(),
                     progress.getCallbackContext())
@@ -39,44 +53,50 @@ public class DeleteHandler extends BaseHandlerStd {
                     .studioId(model.getStudioId())
                     .launchProfileId(model.getLaunchProfileId())
                     .build())
+                .backoffDelay(stabilization)
                 .makeServiceCall((awsRequest, client) -> {
+                    callbackContext.evictRequestRecord(CALL_GRAPH);
                     final String launchProfileId = awsRequest.launchProfileId();
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] deletion already requested", ResourceModel.TYPE_NAME,
+                            launchProfileId));
+                        return null;
+                    }
 
                     try {
-                        final GetLaunchProfileRequest getLaunchProfileRequest = GetLaunchProfileRequest.builder()
-                                .studioId(awsRequest.studioId())
-                                .launchProfileId(launchProfileId)
-                                .build();
-                        final GetLaunchProfileResponse getLaunchProfileResponse = client.injectCredentialsAndInvokeV2(
-                                getLaunchProfileRequest, client.client()::getLaunchProfile);
-                        final LaunchProfileState state = getLaunchProfileResponse.launchProfile().state();
+                        client.injectCredentialsAndInvokeV2(awsRequest, client.client()::deleteLaunchProfile);
 
-                        if(LaunchProfileState.DELETED.equals(state) || LaunchProfileState.CREATE_FAILED.equals(state)) {
+                        logger.log(String.format("%s [%s] deletion requested successfully", ResourceModel.TYPE_NAME,
+                                launchProfileId));
+                    } catch (final ConflictException e) {
+                        final LaunchProfileState state = stateAfterConflict(client, awsRequest.studioId(),
+                            launchProfileId);
+                        if (isGone(state)) {
                             logger.log(String.format("%s [%s] is already in %s state",
                                     ResourceModel.TYPE_NAME, launchProfileId, state.toString()));
                             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, launchProfileId);
                         }
-                        if(LaunchProfileState.DELETE_IN_PROGRESS.equals(state)) {
-                            logger.log(String.format("%s [%s] is already in DELETE_IN_PROGRESS state",
-                                    ResourceModel.TYPE_NAME,launchProfileId));
-                            return null;
+                        if (!LaunchProfileState.DELETE_IN_PROGRESS.equals(state)) {
+                            logger.log(String.format("%s [%s] exception during deletion", ResourceModel.TYPE_NAME,
+                                    launchProfileId));
+                            throw Translator.translateToCfnException(e);
                         }
-
-                        final DeleteLaunchProfileResponse deleteLaunchProfileResponse = client
-                                .injectCredentialsAndInvokeV2(awsRequest, client.client()::deleteLaunchProfile);
-
-                        logger.log(String.format("%s [%s] deletion requested successfully", ResourceModel.TYPE_NAME,
-                                launchProfileId));
-
-                        return deleteLaunchProfileResponse;
+                        logger.log(String.format("%s [%s] is already in DELETE_IN_PROGRESS state",
+                                ResourceModel.TYPE_NAME, launchProfileId));
                     } catch (final NimbleException e) {
                         logger.log(String.format("%s [%s] exception during deletion", ResourceModel.TYPE_NAME,
                                 launchProfileId));
                         throw Translator.translateToCfnException(e);
                     }
+
+                    callbackContext.setMutatedResourceId(launchProfileId);
+                    return null;
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
                     final String launchProfileId = awsRequest.launchProfileId();
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
                     model.setLaunchProfileId(launchProfileId);
 
                     GetLaunchProfileRequest getLaunchProfileRequest = GetLaunchProfileRequest.builder()
@@ -94,26 +114,11 @@ public class DeleteHandler extends BaseHandlerStd {
                         throw Translator.translateToCfnException(e);
                     }
 
-                    if (LaunchProfileState.DELETE_IN_PROGRESS.equals(getLaunchProfileResponse.launchProfile().state())) {
-                        logger.log(String.format("%s [%s] is in state DELETE_IN_PROGRESS, deletion in progress",
-                            ResourceModel.TYPE_NAME, launchProfileId));
-                        return false;
-                    }
-                    if (LaunchProfileState.DELETED.equals(getLaunchProfileResponse.launchProfile().state())) {
-                        logger.log(String.format("%s [%s] is in state DELETED, deletion succeeded",
-                            ResourceModel.TYPE_NAME, launchProfileId));
-                        return true;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, deletion failed", ResourceModel.TYPE_NAME,
-                        launchProfileId, getLaunchProfileResponse.launchProfile().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                        getLaunchProfileResponse.launchProfile().stateAsString(),
-                        getLaunchProfileResponse.launchProfile().statusCodeAsString(),
-                        getLaunchProfileResponse.launchProfile().statusMessage()));
+                    return stabilization.isStabilized(launchProfileId, getLaunchProfileResponse.launchProfile(),
+                        logger);
                 })
                 .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .status(OperationStatus.SUCCESS)
-                    .build()));
+                    .build())));
     }
 }
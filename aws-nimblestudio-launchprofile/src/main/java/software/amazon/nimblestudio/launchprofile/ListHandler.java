@@ -12,49 +12,71 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.ListMode;
+import software.amazon.nimblestudio.common.ListPage;
+import software.amazon.nimblestudio.common.ListPageSize;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
 
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Deleted launch profiles and launch profiles that failed to create are left out by the service.
+     */
+    private static final List<LaunchProfileState> LISTED_STATES = Arrays.stream(LaunchProfileState.values())
+        .filter(state -> state != LaunchProfileState.DELETED
+            && state != LaunchProfileState.CREATE_FAILED
+            && state != LaunchProfileState.UNKNOWN_TO_SDK_VERSION)
+        .collect(toList());
+
+    private final ListMode mode;
+    private final ListPageSize pageSize;
+
+    public ListHandler() {
+        this(ListMode.configured(), ListPageSize.shared());
+    }
+
+    ListHandler(final ListMode mode, final ListPageSize pageSize) {
+        this.mode = mode;
+        this.pageSize = pageSize;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy, final ResourceHandlerRequest<ResourceModel> request,
-        final CallbackContext callbackContext, final ProxyClient<NimbleClient> proxyClient, final Logger logger) {
+        final CallbackContext callbackContext, final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline, final Logger logger) {
 
+        final String studioId = request.getDesiredResourceState().getStudioId();
+        final String pageSizeKey = ResourceModel.TYPE_NAME + "/" + mode;
         final ListLaunchProfilesRequest listLaunchProfilesRequest = ListLaunchProfilesRequest.builder()
+                .maxResults(pageSize.pageSize(pageSizeKey, deadline))
                 .nextToken(request.getNextToken())
-                .studioId(request.getDesiredResourceState().getStudioId())
+                .states(LISTED_STATES)
+                .studioId(studioId)
                 .build();
 
         try {
             final ListLaunchProfilesResponse listLaunchProfilesResponse = proxyClient
                 .injectCredentialsAndInvokeV2(listLaunchProfilesRequest, proxyClient.client()::listLaunchProfiles);
 
-            final List<LaunchProfile> launchProfiles = listLaunchProfilesResponse.hasLaunchProfiles() ?
-                    listLaunchProfilesResponse.launchProfiles() :
-                    new ArrayList<>();
-
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(launchProfiles.stream()
-                    .filter(launchProfile ->
+                .resourceModels(pageSize.translate(pageSizeKey, () -> ListPage.translate(
+                    listLaunchProfilesResponse.launchProfiles(),
+                    // Already filtered by the service, this only guards against a filter it did not apply
+                    launchProfile ->
                         !LaunchProfileState.DELETED.equals(launchProfile.state()) &&
-                        !LaunchProfileState.CREATE_FAILED.equals(launchProfile.state()))
-                    .map(launchProfile -> ResourceModel.builder()
-                        .description(launchProfile.description())
-                        .ec2SubnetIds(launchProfile.ec2SubnetIds())
-                        .launchProfileId(launchProfile.launchProfileId())
-                        .name(launchProfile.name())
-                        .streamConfiguration(Translator.toModelStreamConfiguration(launchProfile.streamConfiguration()))
-                        .studioComponentIds(launchProfile.studioComponentIds())
-                        .launchProfileProtocolVersions(launchProfile.launchProfileProtocolVersions())
-                        .studioId(request.getDesiredResourceState().getStudioId())
-                        .tags(launchProfile.tags())
-                        .build())
-                    .collect(toList()))
+                        !LaunchProfileState.CREATE_FAILED.equals(launchProfile.state()),
+                    launchProfile -> mode == ListMode.IDENTIFIERS_ONLY
+                        ? ResourceModel.builder()
+                            .launchProfileId(launchProfile.launchProfileId())
+                            .studioId(studioId)
+                            .build()
+                        : toModel(launchProfile, studioId))))
                 .nextToken(listLaunchProfilesResponse.nextToken())
                 .status(OperationStatus.SUCCESS)
                 .build();
@@ -63,4 +85,18 @@ public class ListHandler extends BaseHandlerStd {
             throw Translator.translateToCfnException(e);
         }
     }
+
+    private static ResourceModel toModel(final LaunchProfile launchProfile, final String studioId) {
+        return ResourceModel.builder()
+            .description(launchProfile.description())
+            .ec2SubnetIds(launchProfile.ec2SubnetIds())
+            .launchProfileId(launchProfile.launchProfileId())
+            .name(launchProfile.name())
+            .streamConfiguration(Translator.toModelStreamConfiguration(launchProfile.streamConfiguration()))
+            .studioComponentIds(launchProfile.studioComponentIds())
+            .launchProfileProtocolVersions(launchProfile.launchProfileProtocolVersions())
+            .studioId(studioId)
+            .tags(launchProfile.tags())
+            .build();
+    }
 }
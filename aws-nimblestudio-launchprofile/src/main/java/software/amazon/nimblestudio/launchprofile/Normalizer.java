@@ -0,0 +1,76 @@
+package software.amazon.nimblestudio.launchprofile;
+
+import software.amazon.nimblestudio.common.ModelFingerprint;
+import software.amazon.nimblestudio.common.ModelNormalizer;
+
+import java.util.Collections;
+
+/**
+ * Lines up a launch profile read from the service with the one declared in the template: list order, empty versus
+ * unset lists and the stream configuration defaults the service fills in.
+ */
+final class Normalizer {
+
+    private static final Double DEFAULT_MAX_SESSION_LENGTH_IN_MINUTES = 690.0;
+    private static final Double DEFAULT_MAX_STOPPED_SESSION_LENGTH_IN_MINUTES = 0.0;
+    private static final String DEFAULT_LINUX_ROOT = "$HOME/Downloads";
+    private static final String DEFAULT_WINDOWS_ROOT = "%HOMEPATH%\\Downloads";
+
+    private Normalizer() {
+    }
+
+    static ResourceModel normalize(final ResourceModel live, final ResourceModel declared) {
+        // Without declared properties there is nothing to line up with, e.g. for a read by identifier
+        if (declared == null || isIdentifierOnly(declared)) {
+            return live;
+        }
+
+        live.setEc2SubnetIds(ModelNormalizer.list(live.getEc2SubnetIds(), declared.getEc2SubnetIds()));
+        live.setLaunchProfileProtocolVersions(ModelNormalizer.list(live.getLaunchProfileProtocolVersions(),
+            declared.getLaunchProfileProtocolVersions()));
+        live.setStudioComponentIds(ModelNormalizer.list(live.getStudioComponentIds(),
+            declared.getStudioComponentIds()));
+
+        if (live.getStreamConfiguration() != null && declared.getStreamConfiguration() != null) {
+            normalizeStreamConfiguration(live.getStreamConfiguration(), declared.getStreamConfiguration());
+        }
+
+        return live;
+    }
+
+    private static void normalizeStreamConfiguration(final StreamConfiguration live,
+        final StreamConfiguration declared) {
+        live.setEc2InstanceTypes(ModelNormalizer.list(live.getEc2InstanceTypes(), declared.getEc2InstanceTypes()));
+        live.setStreamingImageIds(ModelNormalizer.list(live.getStreamingImageIds(), declared.getStreamingImageIds()));
+        live.setMaxSessionLengthInMinutes(ModelNormalizer.withoutDefault(live.getMaxSessionLengthInMinutes(),
+            declared.getMaxSessionLengthInMinutes(), DEFAULT_MAX_SESSION_LENGTH_IN_MINUTES));
+        live.setMaxStoppedSessionLengthInMinutes(ModelNormalizer.withoutDefault(
+            live.getMaxStoppedSessionLengthInMinutes(), declared.getMaxStoppedSessionLengthInMinutes(),
+            DEFAULT_MAX_STOPPED_SESSION_LENGTH_IN_MINUTES));
+
+        final StreamConfigurationSessionStorage liveStorage = live.getSessionStorage();
+        final StreamConfigurationSessionStorage declaredStorage = declared.getSessionStorage();
+        if (liveStorage == null || declaredStorage == null) {
+            return;
+        }
+
+        liveStorage.setMode(ModelNormalizer.list(liveStorage.getMode(), declaredStorage.getMode()));
+        if (liveStorage.getRoot() != null) {
+            // The service fills in the default upload folder of any platform left out
+            final StreamingSessionStorageRoot declaredRoot = declaredStorage.getRoot() == null
+                ? StreamingSessionStorageRoot.builder().build()
+                : declaredStorage.getRoot();
+            liveStorage.getRoot().setLinux(ModelNormalizer.withoutDefault(liveStorage.getRoot().getLinux(),
+                declaredRoot.getLinux(), DEFAULT_LINUX_ROOT));
+            liveStorage.getRoot().setWindows(ModelNormalizer.withoutDefault(liveStorage.getRoot().getWindows(),
+                declaredRoot.getWindows(), DEFAULT_WINDOWS_ROOT));
+        }
+    }
+
+    private static boolean isIdentifierOnly(final ResourceModel model) {
+        return ModelFingerprint.same(model, ResourceModel.builder()
+            .studioId(model.getStudioId())
+            .launchProfileId(model.getLaunchProfileId())
+            .build(), Collections.emptySet());
+    }
+}
@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -21,6 +22,7 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
@@ -58,7 +60,7 @@ public class ReadHandler extends BaseHandlerStd {
                         throw Translator.translateToCfnException(e);
                     }
                 })
-                .done((awsResponse) -> ProgressEvent.defaultSuccessHandler(
+                .done((awsResponse) -> ProgressEvent.defaultSuccessHandler(Normalizer.normalize(
                     ResourceModel.builder()
                         .studioId(request.getDesiredResourceState().getStudioId())
                         .launchProfileId(request.getDesiredResourceState().getLaunchProfileId())
@@ -71,6 +73,7 @@ public class ReadHandler extends BaseHandlerStd {
                         .launchProfileProtocolVersions(awsResponse.launchProfile().launchProfileProtocolVersions())
                         .studioComponentIds(awsResponse.launchProfile().studioComponentIds())
                         .tags(awsResponse.launchProfile().tags())
-                        .build())));
+                        .build(),
+                    request.getDesiredResourceState()))));
     }
 }
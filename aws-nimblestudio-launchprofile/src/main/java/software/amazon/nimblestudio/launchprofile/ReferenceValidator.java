@@ -0,0 +1,102 @@
+package software.amazon.nimblestudio.launchprofile;
+
+import software.amazon.awssdk.services.nimble.NimbleAsyncClient;
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStreamingImageRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioComponentRequest;
+import software.amazon.awssdk.services.nimble.model.NimbleException;
+import software.amazon.awssdk.services.nimble.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.nimblestudio.common.AsyncCalls;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Looks up all studio components and streaming images a launch profile refers to at the same time, so that a
+ * reference that is missing, being deleted or failed to create fails the request right away instead of the launch
+ * profile failing minutes later. References that are being updated, or whose update failed, are still usable. A
+ * validator is created per handler invocation and looks each reference up at most once.
+ */
+final class ReferenceValidator {
+
+    private static final Set<String> UNUSABLE_STATES = new HashSet<>(Arrays.asList(
+        "CREATE_FAILED", "DELETE_IN_PROGRESS", "DELETED", "DELETE_FAILED"));
+
+    private final Map<String, CompletableFuture<String>> states = new HashMap<>();
+
+    /**
+     * @throws CfnInvalidRequestException for the first reference, in template order, that is missing or unusable
+     */
+    void validate(final ProxyClient<NimbleClient> proxyClient, final String studioId,
+                  final List<String> studioComponentIds, final List<String> streamingImageIds) {
+        final List<Reference> references = new ArrayList<>();
+        if (studioComponentIds != null) {
+            for (final String studioComponentId : studioComponentIds) {
+                references.add(new Reference("Studio component", studioComponentId, state(studioId,
+                    "studioComponent/" + studioComponentId, () -> AsyncCalls.start(proxyClient,
+                        GetStudioComponentRequest.builder().studioId(studioId).studioComponentId(studioComponentId)
+                            .build(), NimbleAsyncClient::getStudioComponent)
+                        .thenApply(response -> response.studioComponent().stateAsString()))));
+            }
+        }
+        if (streamingImageIds != null) {
+            for (final String streamingImageId : streamingImageIds) {
+                references.add(new Reference("Streaming image", streamingImageId, state(studioId,
+                    "streamingImage/" + streamingImageId, () -> AsyncCalls.start(proxyClient,
+                        GetStreamingImageRequest.builder().studioId(studioId).streamingImageId(streamingImageId)
+                            .build(), NimbleAsyncClient::getStreamingImage)
+                        .thenApply(response -> response.streamingImage().stateAsString()))));
+            }
+        }
+
+        for (final Reference reference : references) {
+            reference.check();
+        }
+    }
+
+    private CompletableFuture<String> state(final String studioId, final String reference,
+                                            final Supplier<CompletableFuture<String>> lookup) {
+        return states.computeIfAbsent(studioId + "/" + reference, key -> lookup.get());
+    }
+
+    private static final class Reference {
+        private final String kind;
+        private final String id;
+        private final CompletableFuture<String> state;
+
+        private Reference(final String kind, final String id, final CompletableFuture<String> state) {
+            this.kind = kind;
+            this.id = id;
+            this.state = state;
+        }
+
+        private void check() {
+            final String current;
+            try {
+                current = state.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof ResourceNotFoundException) {
+                    throw new CfnInvalidRequestException(String.format("%s %s does not exist", kind, id));
+                }
+                if (e.getCause() instanceof NimbleException) {
+                    throw Translator.translateToCfnException((NimbleException) e.getCause());
+                }
+                throw e;
+            }
+
+            if (UNUSABLE_STATES.contains(current)) {
+                throw new CfnInvalidRequestException(String.format("%s %s is %s", kind, id, current));
+            }
+        }
+    }
+}
@@ -1,36 +1,69 @@
 package software.amazon.nimblestudio.launchprofile;
 
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
 import software.amazon.awssdk.services.nimble.model.UpdateLaunchProfileRequest;
-import software.amazon.awssdk.services.nimble.model.UpdateLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.LaunchProfile;
 import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.ModelFingerprint;
+import software.amazon.nimblestudio.common.PropertyDiff;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 import software.amazon.awssdk.utils.StringUtils;
 
+import java.util.Collections;
+import java.util.List;
+
 public class UpdateHandler extends BaseHandlerStd {
 
+    private static final String CALL_GRAPH = "AWS-NimbleStudio-LaunchProfile::Update";
+
+    /**
+     * Assigned by the service, so they don't tell whether an update changes anything.
+     */
+    private static final List<String> READ_ONLY_PROPERTIES = Collections.singletonList("LaunchProfileId");
+
+    private static final Stabilizer<LaunchProfile, LaunchProfileState> STABILIZER = stabilizer("update")
+        .succeededOn(LaunchProfileState.READY)
+        .inProgressOn(LaunchProfileState.UPDATE_IN_PROGRESS)
+        .failedOn(LaunchProfileState.UPDATE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        if (isUnchanged(request)) {
+            logger.log(String.format("%s [%s] has no effective changes, skipping update", ResourceModel.TYPE_NAME,
+                request.getDesiredResourceState().getLaunchProfileId()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger);
+        }
+
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> stabilization = STABILIZER.begin(callbackContext,
+            deadline);
+        final ReferenceValidator references = new ReferenceValidator();
+        final PropertyDiff<ResourceModel> diff = PropertyDiff.between(request.getPreviousResourceState(),
+            request.getDesiredResourceState());
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
-                    "AWS-NimbleStudio-LaunchProfile::Update",
+                    CALL_GRAPH,
                     proxyClient,
                     progress.getResourceModel(),
                     progress.getCallbackContext())
@@ -40,60 +73,84 @@ public class UpdateHandler extends BaseHandlerStd {
                         .launchProfileId(model.getLaunchProfileId())
                         .clientToken(request.getClientRequestToken());
 
-                    if (!StringUtils.isEmpty(model.getDescription())) {
+                    // Unchanged properties are left out so the service doesn't re-apply them
+                    if (!StringUtils.isEmpty(model.getDescription()) && diff.changed(ResourceModel::getDescription)) {
                         updateLaunchProfileBuilder.description(model.getDescription());
                     }
 
-                    if (!StringUtils.isEmpty(model.getName())) {
+                    if (!StringUtils.isEmpty(model.getName()) && diff.changed(ResourceModel::getName)) {
                         updateLaunchProfileBuilder.name(model.getName());
                     }
 
-                    if (model.getStreamConfiguration() != null) {
+                    if (model.getStreamConfiguration() != null && diff.changed(ResourceModel::getStreamConfiguration)) {
                         updateLaunchProfileBuilder.streamConfiguration(
                             Translator.fromModelStreamConfiguration(model.getStreamConfiguration())
                         );
                     }
 
-                    if (model.getLaunchProfileProtocolVersions() != null) {
+                    if (model.getLaunchProfileProtocolVersions() != null
+                        && diff.changed(ResourceModel::getLaunchProfileProtocolVersions)) {
                         updateLaunchProfileBuilder.launchProfileProtocolVersions(model.getLaunchProfileProtocolVersions());
                     }
 
-                    if (model.getStudioComponentIds() != null) {
+                    if (model.getStudioComponentIds() != null && diff.changed(ResourceModel::getStudioComponentIds)) {
                         updateLaunchProfileBuilder.studioComponentIds(model.getStudioComponentIds());
                     }
 
                     return updateLaunchProfileBuilder.build();
                 })
+                .backoffDelay(stabilization)
                 .makeServiceCall((awsRequest, client) -> {
+                    callbackContext.evictRequestRecord(CALL_GRAPH);
                     final String launchProfileId = awsRequest.launchProfileId();
-                    try {
-                        final GetLaunchProfileRequest getLaunchProfileRequest = GetLaunchProfileRequest.builder()
-                            .launchProfileId(launchProfileId)
-                            .studioId(awsRequest.studioId())
-                            .build();
-                        final GetLaunchProfileResponse getLaunchProfileResponse = client
-                            .injectCredentialsAndInvokeV2(getLaunchProfileRequest, client.client()::getLaunchProfile);
-                        final LaunchProfileState state = getLaunchProfileResponse.launchProfile().state();
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] update already requested", ResourceModel.TYPE_NAME,
+                            launchProfileId));
+                        return null;
+                    }
 
-                        if (LaunchProfileState.DELETED.equals(state) || LaunchProfileState.CREATE_FAILED.equals(state)) {
-                            logger.log(String.format("%s [%s] is in state %s, update failed", ResourceModel.TYPE_NAME,
-                                launchProfileId, state.toString()));
+                    // References that are kept as they are were checked when they were set
+                    references.validate(client, awsRequest.studioId(),
+                        diff.changed(ResourceModel::getStudioComponentIds) ? awsRequest.studioComponentIds() : null,
+                        awsRequest.streamConfiguration() != null && diff.changed(UpdateHandler::streamingImageIdsOf)
+                            ? awsRequest.streamConfiguration().streamingImageIds() : null);
+
+                    final LaunchProfileState state;
+                    try {
+                        state = client.injectCredentialsAndInvokeV2(awsRequest, client.client()::updateLaunchProfile)
+                            .launchProfile()
+                            .state();
+                    } catch (final ConflictException e) {
+                        if (isGone(stateAfterConflict(client, awsRequest.studioId(), launchProfileId))) {
+                            logger.log(String.format("%s [%s] no longer exists, update failed", ResourceModel.TYPE_NAME,
+                                launchProfileId));
                             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, launchProfileId);
                         }
-
-                        final UpdateLaunchProfileResponse updateLaunchProfileResponse = client
-                                .injectCredentialsAndInvokeV2(awsRequest, client.client()::updateLaunchProfile);
-                        logger.log(String.format("%s [%s] update requested successfully", ResourceModel.TYPE_NAME,
-                            launchProfileId));
-                        return updateLaunchProfileResponse;
+                        logger.log(String.format("%s [%s] exception during update", ResourceModel.TYPE_NAME,
+                                launchProfileId));
+                        throw Translator.translateToCfnException(e);
                     } catch (final NimbleException e) {
                         logger.log(String.format("%s [%s] exception during update", ResourceModel.TYPE_NAME,
                                 launchProfileId));
                         throw Translator.translateToCfnException(e);
                     }
+
+                    if (isGone(state)) {
+                        logger.log(String.format("%s [%s] is in state %s, update failed", ResourceModel.TYPE_NAME,
+                            launchProfileId, state.toString()));
+                        throw new CfnNotFoundException(ResourceModel.TYPE_NAME, launchProfileId);
+                    }
+
+                    callbackContext.setMutatedResourceId(launchProfileId);
+                    logger.log(String.format("%s [%s] update requested successfully", ResourceModel.TYPE_NAME,
+                        launchProfileId));
+                    return null;
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
                     final String launchProfileId = awsRequest.launchProfileId();
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
                     final GetLaunchProfileRequest getLaunchProfileRequest = GetLaunchProfileRequest.builder()
                             .launchProfileId(launchProfileId)
                             .studioId(awsRequest.studioId())
@@ -109,28 +166,21 @@ public class UpdateHandler extends BaseHandlerStd {
                         throw Translator.translateToCfnException(e);
                     }
 
-                    if (LaunchProfileState.READY.equals(getLaunchProfileResponse.launchProfile().state())) {
-                        logger.log(String.format("%s [%s] is in state READY, update succeeded", ResourceModel.TYPE_NAME,
-                                launchProfileId));
-                        return true;
-                    }
-
-                    if (LaunchProfileState.UPDATE_IN_PROGRESS.equals(getLaunchProfileResponse.launchProfile().state())) {
-                        logger.log(String.format("%s [%s] is in state UPDATE_IN_PROGRESS, update in progress",
-                                ResourceModel.TYPE_NAME,
-                                launchProfileId));
-                        return false;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, update failed", ResourceModel.TYPE_NAME,
-                            launchProfileId, getLaunchProfileResponse.launchProfile().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                            getLaunchProfileResponse.launchProfile().stateAsString(),
-                            getLaunchProfileResponse.launchProfile().statusCodeAsString(),
-                            getLaunchProfileResponse.launchProfile().statusMessage()));
+                    return stabilization.isStabilized(launchProfileId, getLaunchProfileResponse.launchProfile(),
+                        logger);
                 })
                 .progress()
-            )
-            .then((r) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            ))
+            .then((r) -> new ReadHandler()
+                .handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger));
+    }
+
+    private static List<String> streamingImageIdsOf(final ResourceModel model) {
+        return model.getStreamConfiguration() == null ? null : model.getStreamConfiguration().getStreamingImageIds();
+    }
+
+    private static boolean isUnchanged(final ResourceHandlerRequest<ResourceModel> request) {
+        return request.getPreviousResourceState() != null && ModelFingerprint.same(request.getPreviousResourceState(),
+            request.getDesiredResourceState(), READ_ONLY_PROPERTIES);
     }
 }
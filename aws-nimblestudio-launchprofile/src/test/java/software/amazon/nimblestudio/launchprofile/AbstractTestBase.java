@@ -3,6 +3,7 @@ package software.amazon.nimblestudio.launchprofile;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.nimblestudio.common.InvocationDeadline;
 
 import java.time.Duration;
 
@@ -10,6 +11,7 @@ public class AbstractTestBase {
 
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy logger;
+    protected static final int CALLBACK_CONTEXT_BUDGET_BYTES = 1024;
 
     static {
         MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
@@ -21,4 +23,12 @@ public class AbstractTestBase {
         return new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
            () -> Duration.ofSeconds(remainingTimeToExecuteInMillis).toMillis());
     }
+
+    static AmazonWebServicesClientProxy getAmazonWebServicesClientProxy(final Duration remainingTime) {
+        return new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, remainingTime::toMillis);
+    }
+
+    static InvocationDeadline deadlineOf(final AmazonWebServicesClientProxy proxy) {
+        return InvocationDeadline.of(proxy, logger);
+    }
 }
@@ -8,12 +8,21 @@ import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
 import software.amazon.awssdk.services.nimble.model.LaunchProfileStatusCode;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.GetStreamingImageRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioComponentRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioComponentResponse;
+import software.amazon.awssdk.services.nimble.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.nimble.model.StudioComponent;
+import software.amazon.awssdk.services.nimble.model.StudioComponentState;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.nimblestudio.common.InvocationResponseCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,8 +35,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.Mockito;
 import org.mockito.Mock;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,6 +69,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         nimbleClient = mock(NimbleClient.class);
         handler = new CreateHandler();
         when(proxyClient.client()).thenReturn(nimbleClient);
+        Utils.stubReadyReferences(proxyClient);
     }
 
     static Stream<Arguments> testParamsForException() {
@@ -135,7 +149,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = generateCreateHandlerRequest();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(2))
             .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
@@ -150,6 +164,24 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ReadReusesStabilizedResponse() {
+        Mockito.doReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        Mockito.doReturn(generateCreateLaunchProfileResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(CreateLaunchProfileRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+            generateCreateHandlerRequest(), new CallbackContext(),
+            new InvocationResponseCache<>(proxyClient, BaseHandlerStd::isSettled), deadlineOf(proxy), logger);
+
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void handleRequest_CreateSuccess_Stabilization() {
         final GetLaunchProfileResponse getLaunchProfileCreatingResponse =
@@ -165,7 +197,8 @@ public class CreateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(CreateLaunchProfileRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(4))
             .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
@@ -189,17 +222,108 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         final ResourceHandlerRequest<ResourceModel> request = generateCreateHandlerRequest();
         assertThrows(CfnGeneralServiceException.class, () -> {
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
         }, "LAUNCH_PROFILE_DELETED - Delete Complete");
     }
 
+    @Test
+    public void handleRequest_DeferredContextWithinBudget() throws Exception {
+        Mockito.doReturn(generateCreateLaunchProfileResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(CreateLaunchProfileRequest.class), any());
+
+        final AmazonWebServicesClientProxy shortProxy = getAmazonWebServicesClientProxy(Duration.ofSeconds(12));
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(shortProxy,
+            generateCreateHandlerRequest(), new CallbackContext(), proxyClient, deadlineOf(shortProxy), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getMutatedResourceId()).isEqualTo("launchProfileId");
+
+        final String serialized = new Serializer().serialize(response.getCallbackContext());
+        assertThat(serialized.getBytes(StandardCharsets.UTF_8).length)
+            .isLessThanOrEqualTo(CALLBACK_CONTEXT_BUDGET_BYTES);
+        assertThat(serialized).doesNotContain("subnet1");
+    }
+
+    @Test
+    public void handleRequest_ChecksReferencesConcurrently() {
+        Mockito.doReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        Mockito.doReturn(generateCreateLaunchProfileResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(CreateLaunchProfileRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = generateCreateHandlerRequest();
+        request.getDesiredResourceState().setStudioComponentIds(
+            Arrays.asList("studioComponentId", "otherComponentId", "studioComponentId"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // Repeated references are looked up once
+        Mockito.verify(proxyClient, Mockito.times(2))
+            .injectCredentialsAndInvokeV2Async(any(GetStudioComponentRequest.class), any());
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2Async(any(GetStreamingImageRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_ReferenceFailedToCreate() {
+        Mockito.doReturn(CompletableFuture.completedFuture(GetStudioComponentResponse.builder()
+                .studioComponent(StudioComponent.builder().state(StudioComponentState.CREATE_FAILED).build())
+                .build()))
+            .when(proxyClient).injectCredentialsAndInvokeV2Async(any(GetStudioComponentRequest.class), any());
+
+        final CfnInvalidRequestException e = assertThrows(CfnInvalidRequestException.class, () -> handler
+            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger));
+
+        assertThat(e.getMessage()).contains("Studio component studioComponentId is CREATE_FAILED");
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(any(CreateLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_ReferenceBeingUpdated() {
+        Mockito.doReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        Mockito.doReturn(generateCreateLaunchProfileResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(CreateLaunchProfileRequest.class), any());
+        Mockito.doReturn(CompletableFuture.completedFuture(GetStudioComponentResponse.builder()
+                .studioComponent(StudioComponent.builder().state(StudioComponentState.UPDATE_IN_PROGRESS).build())
+                .build()))
+            .when(proxyClient).injectCredentialsAndInvokeV2Async(any(GetStudioComponentRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_ReferenceMissing() {
+        final CompletableFuture<GetStudioComponentResponse> missing = new CompletableFuture<>();
+        missing.completeExceptionally(ResourceNotFoundException.builder().statusCode(404).build());
+        Mockito.doReturn(missing)
+            .when(proxyClient).injectCredentialsAndInvokeV2Async(any(GetStudioComponentRequest.class), any());
+
+        final CfnInvalidRequestException e = assertThrows(CfnInvalidRequestException.class, () -> handler
+            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger));
+
+        assertThat(e.getMessage()).contains("Studio component studioComponentId does not exist");
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(any(CreateLaunchProfileRequest.class), any());
+    }
+
     @ParameterizedTest
     @MethodSource("testParamsForException")
     public void handleRequest_Failed_Exception(final Class<Throwable> thrownException,
                                                final Class<Throwable> expectedException) {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
@@ -4,6 +4,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.DeleteLaunchProfileRequest;
 import software.amazon.awssdk.services.nimble.model.DeleteLaunchProfileResponse;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
@@ -95,7 +96,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     @Test
     public void handleRequest_DeleteSuccess_Stabilization() {
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any()))
-                .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.READY))
+                .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETE_IN_PROGRESS))
                 .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETE_IN_PROGRESS))
                 .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETED));
 
@@ -103,7 +104,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(DeleteLaunchProfileRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(3))
                 .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
@@ -121,13 +123,56 @@ public class DeleteHandlerTest extends AbstractTestBase {
     }
 
 
+    @Test
+    public void handleRequest_DeleteAlreadyRequested_SkipsDelete() {
+        Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any()))
+            .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETED));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setMutatedResourceId("launchProfileId");
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, generateDeleteHandlerRequest(), callbackContext, proxyClient, deadlineOf(proxy),
+                logger);
+
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(Mockito.any(DeleteLaunchProfileRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_AlreadyDeleting_Conflict() {
+        Mockito.doThrow(ConflictException.class).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(DeleteLaunchProfileRequest.class), any());
+        Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any()))
+            .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETE_IN_PROGRESS))
+            .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETED));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
+
+        Mockito.verify(proxyClient, Mockito.times(2))
+            .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void handleRequest_AlreadyDeleted_Exception() {
+        Mockito.doThrow(ConflictException.class).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(DeleteLaunchProfileRequest.class), any());
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any()))
             .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETED));
 
         assertThrows(CfnNotFoundException.class, () -> {
-            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -135,12 +180,11 @@ public class DeleteHandlerTest extends AbstractTestBase {
     @MethodSource("testParamsForException")
     public void handleRequest_Failed_Exception(final Class<Throwable> thrownException,
                                                final Class<Throwable> expectedException) {
-        Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any()))
-                .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.READY));
-        Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(DeleteLaunchProfileRequest.class), any());
+        Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
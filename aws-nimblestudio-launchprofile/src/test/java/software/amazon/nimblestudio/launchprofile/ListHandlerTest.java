@@ -13,12 +13,16 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.ListMode;
+import software.amazon.nimblestudio.common.ListPageSize;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -49,7 +53,7 @@ public class ListHandlerTest extends AbstractTestBase {
         proxy = getAmazonWebServicesClientProxy();
         nimbleClient = mock(NimbleClient.class);
         when(proxyClient.client()).thenReturn(nimbleClient);
-        handler = new ListHandler();
+        handler = new ListHandler(ListMode.FULL, new ListPageSize());
     }
 
     static Stream<Arguments> testParamsForException() {
@@ -78,7 +82,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
         // Make the LIST request
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -92,6 +96,51 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_IdentifiersOnly() {
+        ListLaunchProfilesResponse listLaunchProfilesResponse = ListLaunchProfilesResponse.builder()
+                .launchProfiles(Arrays.asList(
+                        Utils.generateLaunchProfile(LaunchProfileState.READY),
+                        Utils.generateLaunchProfile(LaunchProfileState.UPDATE_IN_PROGRESS)))
+                .build();
+        Mockito.doReturn(listLaunchProfilesResponse).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListLaunchProfilesRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().studioId(DEFAULT_STUDIO_ID).build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            new ListHandler(ListMode.IDENTIFIERS_ONLY, new ListPageSize())
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        final ResourceModel identifiers = ResourceModel.builder()
+            .launchProfileId("launchProfileId")
+            .studioId(DEFAULT_STUDIO_ID)
+            .build();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(Arrays.asList(identifiers, identifiers));
+    }
+
+    @Test
+    public void handleRequest_FiltersStatesOnTheService() {
+        Mockito.doReturn(ListLaunchProfilesResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListLaunchProfilesRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().studioId(DEFAULT_STUDIO_ID).build())
+            .build();
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        final ArgumentCaptor<ListLaunchProfilesRequest> argumentCaptor =
+            ArgumentCaptor.forClass(ListLaunchProfilesRequest.class);
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(argumentCaptor.capture(), any());
+        assertThat(argumentCaptor.getValue().maxResults()).isEqualTo(100);
+        assertThat(argumentCaptor.getValue().states())
+            .contains(LaunchProfileState.READY, LaunchProfileState.UPDATE_IN_PROGRESS)
+            .doesNotContain(LaunchProfileState.DELETED, LaunchProfileState.CREATE_FAILED);
+    }
+
     @Test
     public void handleRequest_IgnoreStates() {
         // Mock the response
@@ -113,11 +162,29 @@ public class ListHandlerTest extends AbstractTestBase {
 
         // Make the LIST request
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(response.getResourceModels().size()).isEqualTo(0);
     }
 
+    @Test
+    public void handleRequest_NearDeadline_AsksForSmallPages() {
+        Mockito.doReturn(ListLaunchProfilesResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListLaunchProfilesRequest.class), any());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().studioId(DEFAULT_STUDIO_ID).build())
+            .build();
+
+        final AmazonWebServicesClientProxy shortProxy = getAmazonWebServicesClientProxy(Duration.ofSeconds(12));
+        handler.handleRequest(shortProxy, request, new CallbackContext(), proxyClient, deadlineOf(shortProxy),
+            logger);
+
+        final ArgumentCaptor<ListLaunchProfilesRequest> argumentCaptor =
+            ArgumentCaptor.forClass(ListLaunchProfilesRequest.class);
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(argumentCaptor.capture(), any());
+        assertThat(argumentCaptor.getValue().maxResults()).isEqualTo(10);
+    }
+
     @ParameterizedTest
     @MethodSource("testParamsForException")
     public void handleRequest_Failed_Exception(final Class<Throwable> thrownException,
@@ -130,7 +197,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
         });
     }
 }
@@ -1,5 +1,7 @@
 package software.amazon.nimblestudio.launchprofile;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +16,11 @@ import org.mockito.Mockito;
 
 import software.amazon.awssdk.services.nimble.NimbleClient;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
+import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
 import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
+import software.amazon.awssdk.services.nimble.model.StreamConfigurationSessionStorage;
+import software.amazon.awssdk.services.nimble.model.StreamingSessionStorageMode;
+import software.amazon.awssdk.services.nimble.model.StreamingSessionStorageRoot;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -68,7 +74,7 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         // Make the READ request
         final ProgressEvent<ResourceModel, CallbackContext> handlerResponse = new ReadHandler()
-           .handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+           .handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(handlerResponse).isNotNull();
         assertThat(handlerResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -80,13 +86,104 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(handlerResponse.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_NormalizesToDeclaredModel() {
+        Mockito.doReturn(GetLaunchProfileResponse.builder()
+            .launchProfile(Utils.generateLaunchProfileBuilder(LaunchProfileState.READY)
+                .ec2SubnetIds(Collections.emptyList())
+                .studioComponentIds(Arrays.asList("studioComponent1", "studioComponent2"))
+                .streamConfiguration(Utils.generateStreamConfigurationWithoutOptionalParameters().toBuilder()
+                    .maxSessionLengthInMinutes(690)
+                    .maxStoppedSessionLengthInMinutes(0)
+                    .sessionStorage(StreamConfigurationSessionStorage.builder()
+                        .root(StreamingSessionStorageRoot.builder()
+                            .linux("LinuxPath")
+                            .windows("%HOMEPATH%\\Downloads")
+                            .build())
+                        .mode(Collections.singletonList(StreamingSessionStorageMode.UPLOAD))
+                        .build())
+                    .build())
+                .build())
+            .build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+
+        final StreamConfiguration declaredStreamConfiguration =
+            Translator.toModelStreamConfiguration(Utils.generateStreamConfigurationWithoutOptionalParameters());
+        declaredStreamConfiguration.setSessionStorage(
+            software.amazon.nimblestudio.launchprofile.StreamConfigurationSessionStorage.builder()
+                .root(software.amazon.nimblestudio.launchprofile.StreamingSessionStorageRoot.builder()
+                    .linux("LinuxPath")
+                    .build())
+                .mode(Collections.singletonList("UPLOAD"))
+                .build());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .launchProfileId("launchProfileId")
+                .studioId("studioId")
+                .studioComponentIds(Arrays.asList("studioComponent2", "studioComponent1"))
+                .streamConfiguration(declaredStreamConfiguration)
+                .build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> handlerResponse = new ReadHandler()
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        final ResourceModel model = handlerResponse.getResourceModel();
+        assertThat(handlerResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(model.getEc2SubnetIds()).isNull();
+        assertThat(model.getStudioComponentIds()).containsExactly("studioComponent2", "studioComponent1");
+        assertThat(model.getStreamConfiguration()).isEqualTo(declaredStreamConfiguration);
+    }
+
+    @Test
+    public void handleRequest_KeepsUndeclaredUploadFolderChangedOutsideTheTemplate() {
+        Mockito.doReturn(GetLaunchProfileResponse.builder()
+            .launchProfile(Utils.generateLaunchProfileBuilder(LaunchProfileState.READY)
+                .streamConfiguration(Utils.generateStreamConfigurationWithoutOptionalParameters().toBuilder()
+                    .sessionStorage(StreamConfigurationSessionStorage.builder()
+                        .root(StreamingSessionStorageRoot.builder()
+                            .linux("$HOME/Downloads")
+                            .windows("D:\\Uploads")
+                            .build())
+                        .mode(Collections.singletonList(StreamingSessionStorageMode.UPLOAD))
+                        .build())
+                    .build())
+                .build())
+            .build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+
+        final StreamConfiguration declaredStreamConfiguration =
+            Translator.toModelStreamConfiguration(Utils.generateStreamConfigurationWithoutOptionalParameters());
+        declaredStreamConfiguration.setSessionStorage(
+            software.amazon.nimblestudio.launchprofile.StreamConfigurationSessionStorage.builder()
+                .mode(Collections.singletonList("UPLOAD"))
+                .build());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .launchProfileId("launchProfileId")
+                .studioId("studioId")
+                .streamConfiguration(declaredStreamConfiguration)
+                .build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> handlerResponse = new ReadHandler()
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        final software.amazon.nimblestudio.launchprofile.StreamingSessionStorageRoot root = handlerResponse
+            .getResourceModel().getStreamConfiguration().getSessionStorage().getRoot();
+        assertThat(handlerResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(root.getLinux()).isNull();
+        assertThat(root.getWindows()).isEqualTo("D:\\Uploads");
+    }
+
     @Test
     public void handleRequest_AlreadyDeleted_Exception() {
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any()))
             .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETED));
 
         assertThrows(CfnNotFoundException.class, () -> {
-            new ReadHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            new ReadHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -97,7 +194,8 @@ public class ReadHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            new ReadHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            new ReadHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
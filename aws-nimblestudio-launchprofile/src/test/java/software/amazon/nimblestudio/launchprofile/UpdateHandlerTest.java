@@ -1,8 +1,11 @@
 package software.amazon.nimblestudio.launchprofile;
 
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.GetStreamingImageRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioComponentRequest;
 import software.amazon.awssdk.services.nimble.model.UpdateLaunchProfileRequest;
 import software.amazon.awssdk.services.nimble.model.UpdateLaunchProfileResponse;
 import software.amazon.awssdk.services.nimble.model.LaunchProfile;
@@ -29,6 +32,7 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.stream.Stream;
 
@@ -59,6 +63,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         nimbleClient = mock(NimbleClient.class);
         handler = new UpdateHandler();
         when(proxyClient.client()).thenReturn(nimbleClient);
+        Utils.stubReadyReferences(proxyClient);
     }
 
     static Stream<Arguments> testParamsForException() {
@@ -115,9 +120,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
-        Mockito.verify(proxyClient, Mockito.times(3))
+        Mockito.verify(proxyClient, Mockito.times(2))
             .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
 
         assertThat(response).isNotNull();
@@ -147,12 +153,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
-        // The API will be called 4 times (read, update, read, read). Capture the calls and then inspect the update request.
+        // The API will be called 3 times (update, read, read). Capture the calls and then inspect the update request.
         ArgumentCaptor<UpdateLaunchProfileRequest> argumentCaptor = ArgumentCaptor.forClass(UpdateLaunchProfileRequest.class);
-        Mockito.verify(proxyClient, Mockito.times(4)).injectCredentialsAndInvokeV2(argumentCaptor.capture(), Mockito.any());
-        UpdateLaunchProfileRequest updateLaunchProfileRequest = argumentCaptor.getAllValues().get(1);
+        Mockito.verify(proxyClient, Mockito.times(3)).injectCredentialsAndInvokeV2(argumentCaptor.capture(), Mockito.any());
+        UpdateLaunchProfileRequest updateLaunchProfileRequest = argumentCaptor.getAllValues().get(0);
 
         assertThat(updateLaunchProfileRequest.description()).isNull();
         assertThat(updateLaunchProfileRequest.name()).isNull();
@@ -161,6 +167,102 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(updateLaunchProfileRequest.hasStudioComponentIds()).isEqualTo(false);
     }
 
+    @Test
+    public void handleRequest_NoEffectiveChange_SkipsUpdate() {
+        Mockito.doReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+
+        final ResourceModel previous = generateUpdateHandlerRequest().getDesiredResourceState();
+        previous.setStudioComponentIds(Arrays.asList("studioComponentId", "otherStudioComponentId"));
+        final ResourceModel desired = generateUpdateHandlerRequest().getDesiredResourceState();
+        desired.setStudioComponentIds(Arrays.asList("otherStudioComponentId", "studioComponentId"));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previous)
+            .desiredResourceState(desired)
+            .clientRequestToken("clientToken")
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(Mockito.any(UpdateLaunchProfileRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(Utils.generateGetLaunchProfileResponseModel());
+    }
+
+    @Test
+    public void handleRequest_SendsChangedPropertiesOnly() {
+        Mockito.doReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        Mockito.doReturn(generateUpdateLaunchProfileResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
+
+        final ResourceModel desired = generateUpdateHandlerRequest().getDesiredResourceState();
+        desired.setStudioComponentIds(Arrays.asList("studioComponentId", "otherStudioComponentId"));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(generateUpdateHandlerRequest().getDesiredResourceState())
+            .desiredResourceState(desired)
+            .clientRequestToken("clientToken")
+            .build();
+
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        final ArgumentCaptor<UpdateLaunchProfileRequest> argumentCaptor =
+            ArgumentCaptor.forClass(UpdateLaunchProfileRequest.class);
+        Mockito.verify(proxyClient, Mockito.times(3))
+            .injectCredentialsAndInvokeV2(argumentCaptor.capture(), Mockito.any());
+        final UpdateLaunchProfileRequest updateLaunchProfileRequest = argumentCaptor.getAllValues().get(0);
+
+        assertThat(updateLaunchProfileRequest.studioComponentIds())
+            .containsExactly("studioComponentId", "otherStudioComponentId");
+        assertThat(updateLaunchProfileRequest.description()).isNull();
+        assertThat(updateLaunchProfileRequest.name()).isNull();
+        assertThat(updateLaunchProfileRequest.streamConfiguration()).isNull();
+        assertThat(updateLaunchProfileRequest.hasLaunchProfileProtocolVersions()).isFalse();
+
+        // Only the references being changed are checked
+        Mockito.verify(proxyClient, Mockito.times(2))
+            .injectCredentialsAndInvokeV2Async(any(GetStudioComponentRequest.class), any());
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2Async(any(GetStreamingImageRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_KeptStreamingImages_NotChecked() {
+        Mockito.doReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        Mockito.doReturn(generateUpdateLaunchProfileResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
+
+        final ResourceModel desired = generateUpdateHandlerRequest().getDesiredResourceState();
+        desired.getStreamConfiguration().setMaxSessionLengthInMinutes(60);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(generateUpdateHandlerRequest().getDesiredResourceState())
+            .desiredResourceState(desired)
+            .clientRequestToken("clientToken")
+            .build();
+
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        final ArgumentCaptor<UpdateLaunchProfileRequest> argumentCaptor =
+            ArgumentCaptor.forClass(UpdateLaunchProfileRequest.class);
+        Mockito.verify(proxyClient, Mockito.times(3))
+            .injectCredentialsAndInvokeV2(argumentCaptor.capture(), Mockito.any());
+        assertThat(argumentCaptor.getAllValues().get(0).streamConfiguration().streamingImageIds())
+            .containsExactly("imageID");
+
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2Async(any(GetStudioComponentRequest.class), any());
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2Async(any(GetStreamingImageRequest.class), any());
+    }
+
     @Test
     public void handleRequest_UpdateSuccess_Stabilization() {
 
@@ -178,7 +280,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(4))
             .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
@@ -195,21 +298,44 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_AlreadyDeleted_Exception() {
+        Mockito.doThrow(ConflictException.class).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any()))
             .thenReturn(Utils.generateGetLaunchProfileResponse(LaunchProfileState.DELETED));
 
         assertThrows(CfnNotFoundException.class, () -> {
-            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
+    @Test
+    public void handleRequest_DeletedInUpdateResponse_Exception() {
+        Mockito.doReturn(UpdateLaunchProfileResponse.builder()
+                .launchProfile(LaunchProfile.builder()
+                    .launchProfileId("launchProfileId")
+                    .state(LaunchProfileState.DELETED)
+                    .build())
+                .build())
+            .when(proxyClient).injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
+
+        assertThrows(CfnNotFoundException.class, () -> {
+            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
+        });
+
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(Mockito.any(GetLaunchProfileRequest.class), Mockito.any());
+    }
+
     @ParameterizedTest
     @MethodSource("testParamsForException")
     public void handleRequest_Failed_Exception(final Class<Throwable> thrownException,
                                                final Class<Throwable> expectedException) {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
@@ -1,9 +1,15 @@
 package software.amazon.nimblestudio.launchprofile;
 
 import org.junit.jupiter.params.provider.Arguments;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.nimble.NimbleClient;
 import software.amazon.awssdk.services.nimble.model.AccessDeniedException;
 import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.GetStreamingImageRequest;
+import software.amazon.awssdk.services.nimble.model.GetStreamingImageResponse;
+import software.amazon.awssdk.services.nimble.model.GetStudioComponentRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioComponentResponse;
 import software.amazon.awssdk.services.nimble.model.InternalServerErrorException;
 import software.amazon.awssdk.services.nimble.model.LaunchProfile;
 import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
@@ -12,12 +18,16 @@ import software.amazon.awssdk.services.nimble.model.ListLaunchProfilesResponse;
 import software.amazon.awssdk.services.nimble.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.nimble.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.nimble.model.StreamConfiguration;
+import software.amazon.awssdk.services.nimble.model.StreamingImage;
+import software.amazon.awssdk.services.nimble.model.StreamingImageState;
 import software.amazon.awssdk.services.nimble.model.StreamingClipboardMode;
 import software.amazon.awssdk.services.nimble.model.StreamConfigurationSessionStorage;
 import software.amazon.awssdk.services.nimble.model.StreamingSessionStorageRoot;
 import software.amazon.awssdk.services.nimble.model.StreamingSessionStorageMode;
 
 import software.amazon.awssdk.services.nimble.model.StreamingInstanceType;
+import software.amazon.awssdk.services.nimble.model.StudioComponent;
+import software.amazon.awssdk.services.nimble.model.StudioComponentState;
 import software.amazon.awssdk.services.nimble.model.ThrottlingException;
 import software.amazon.awssdk.services.nimble.model.ValidationException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
@@ -27,6 +37,7 @@ import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.ProxyClient;
 
 import java.util.Arrays;
 import java.time.Instant;
@@ -34,8 +45,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.any;
+
 public class Utils {
 
     public static Map<String, String> generateTags() {
@@ -194,4 +208,18 @@ public class Utils {
             Arguments.of(ValidationException.class, CfnInvalidRequestException.class)
         );
     }
+
+    /**
+     * Answers the reference checks made before a create or update with READY studio components and streaming images.
+     */
+    static void stubReadyReferences(final ProxyClient<NimbleClient> proxyClient) {
+        Mockito.lenient().doReturn(CompletableFuture.completedFuture(GetStudioComponentResponse.builder()
+                .studioComponent(StudioComponent.builder().state(StudioComponentState.READY).build())
+                .build()))
+            .when(proxyClient).injectCredentialsAndInvokeV2Async(any(GetStudioComponentRequest.class), any());
+        Mockito.lenient().doReturn(CompletableFuture.completedFuture(GetStreamingImageResponse.builder()
+                .streamingImage(StreamingImage.builder().state(StreamingImageState.READY).build())
+                .build()))
+            .when(proxyClient).injectCredentialsAndInvokeV2Async(any(GetStreamingImageRequest.class), any());
+    }
 }
@@ -1,12 +1,24 @@
 package software.amazon.nimblestudio.streamingimage;
 
+import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.NimbleException;
+import software.amazon.awssdk.services.nimble.model.StreamingImage;
+import software.amazon.awssdk.services.nimble.model.GetStreamingImageRequest;
+import software.amazon.awssdk.services.nimble.model.GetStreamingImageResponse;
+import software.amazon.awssdk.services.nimble.model.StreamingImageState;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.nimblestudio.common.ClientBuilder;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.NimbleProxyClients;
+import software.amazon.nimblestudio.common.Stabilizer;
+import software.amazon.nimblestudio.common.ThrottleRetryProxyClient;
+
+import java.time.Duration;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -16,11 +28,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       final ResourceHandlerRequest<ResourceModel> request,
       final CallbackContext callbackContext,
       final Logger logger) {
+    logger.log(String.format("NimbleClient %s, %s", ClientBuilder.describeClientUsage(),
+      ThrottleRetryProxyClient.describeUsage()));
+
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+    final InvocationDeadline deadline = InvocationDeadline.of(proxy, logger);
     return handleRequest(
         proxy,
         request,
-        callbackContext != null ? callbackContext : new CallbackContext(),
-        proxy.newProxy(() -> ClientBuilder.getClient()),
+        context,
+        NimbleProxyClients.decorate(proxy, request, deadline, context, BaseHandlerStd::isSettled),
+        deadline,
         logger
     );
   }
@@ -30,5 +48,48 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       final ResourceHandlerRequest<ResourceModel> request,
       final CallbackContext callbackContext,
       final ProxyClient<NimbleClient> proxyClient,
+      final InvocationDeadline deadline,
       final Logger logger);
+
+  /**
+   * Only GetStreamingImage responses for a resource that is not transitioning can be served again.
+   */
+  static boolean isSettled(final AwsResponse response) {
+    if (!(response instanceof GetStreamingImageResponse)) {
+      return false;
+    }
+
+    final StreamingImage streamingImage = ((GetStreamingImageResponse) response).streamingImage();
+    return streamingImage != null && !String.valueOf(streamingImage.stateAsString()).endsWith("_IN_PROGRESS");
+  }
+
+  /**
+   * Stabilization settings shared by the handlers of this resource type.
+   */
+  static Stabilizer.Builder<StreamingImage, StreamingImageState> stabilizer(final String operation) {
+    return Stabilizer.<StreamingImage, StreamingImageState>builder(ResourceModel.TYPE_NAME, StreamingImage::state,
+        streamingImage -> String.format("%s: %s - %s", streamingImage.stateAsString(), streamingImage.statusCodeAsString(),
+            streamingImage.statusMessage()))
+      .operation(operation)
+      .polling(Duration.ofSeconds(2), Duration.ofSeconds(20));
+  }
+
+  /**
+   * Updates go straight to the service, which answers with a conflict both for a deleted streaming image and for one
+   * that is busy. Only then is the current state read to tell which; null if that read fails too.
+   */
+  static StreamingImageState stateAfterConflict(final ProxyClient<NimbleClient> proxyClient, final String studioId,
+                                                final String streamingImageId) {
+    final GetStreamingImageRequest getStreamingImageRequest = GetStreamingImageRequest.builder()
+        .studioId(studioId)
+        .streamingImageId(streamingImageId)
+        .build();
+
+    try {
+      return proxyClient.injectCredentialsAndInvokeV2(getStreamingImageRequest,
+          proxyClient.client()::getStreamingImage).streamingImage().state();
+    } catch (final NimbleException e) {
+      return null;
+    }
+  }
 }
@@ -1,10 +1,16 @@
 package software.amazon.nimblestudio.streamingimage;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.nimblestudio.common.CheckpointContext;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends StdCallbackContext implements CheckpointContext {
+    private boolean preCheckDone;
+    private String mutatedResourceId;
+    private Long stabilizationStartedAt;
+    private Long stabilizationPollAt;
+    private boolean stabilizationSeenInProgress;
 }
@@ -8,27 +8,39 @@ import software.amazon.awssdk.services.nimble.model.CreateStreamingImageResponse
 import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
 import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
+import software.amazon.awssdk.services.nimble.model.StreamingImage;
 import software.amazon.awssdk.services.nimble.model.StreamingImageState;
 import software.amazon.awssdk.services.nimble.model.StudioState;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final Stabilizer<StreamingImage, StreamingImageState> STABILIZER = stabilizer("creation")
+        .succeededOn(StreamingImageState.READY)
+        .inProgressOn(StreamingImageState.CREATE_IN_PROGRESS)
+        .failedOn(StreamingImageState.CREATE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        final Stabilizer.Run<StreamingImage, StreamingImageState> stabilization = STABILIZER.begin(callbackContext,
+            deadline);
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
                     "AWS-NimbleStudio-StreamingImage::Create",
                     proxyClient,
@@ -43,12 +55,21 @@ public class CreateHandler extends BaseHandlerStd {
                     .description(model.getDescription())
                     .tags(model.getTags())
                     .build())
+                .backoffDelay(stabilization)
                 .makeServiceCall((createStreamingImageRequest, client) -> {
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] creation already requested", ResourceModel.TYPE_NAME,
+                            callbackContext.getMutatedResourceId()));
+                        return null;
+                    }
+
                     try {
                         final NimbleClient studioClient = client.client();
                         final CreateStreamingImageResponse createStreamingImageResponse = client
                             .injectCredentialsAndInvokeV2(createStreamingImageRequest,
                                 studioClient::createStreamingImage);
+                        callbackContext.setMutatedResourceId(
+                            createStreamingImageResponse.streamingImage().streamingImageId());
 
                         logger.log(String.format("%s [%s] creation in progress", ResourceModel.TYPE_NAME,
                             createStreamingImageResponse.streamingImage().streamingImageId()));
@@ -61,8 +82,11 @@ public class CreateHandler extends BaseHandlerStd {
                     }
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
-                    final String streamingImageId = awsResponse.streamingImage().streamingImageId();
+                    final String streamingImageId = context.getMutatedResourceId();
                     model.setStreamingImageId(streamingImageId);
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
 
                     GetStreamingImageRequest getStreamingImageRequest = GetStreamingImageRequest.builder()
                         .studioId(awsRequest.studioId())
@@ -79,26 +103,12 @@ public class CreateHandler extends BaseHandlerStd {
                         throw ExceptionTranslator.translateToCfnException(e);
                     }
 
-                    if (StreamingImageState.CREATE_IN_PROGRESS.equals(getStreamingImageResponse.streamingImage().state())) {
-                        logger.log(String.format("%s [%s] is in state %s, creation in progress", ResourceModel.TYPE_NAME, streamingImageId,
-                            getStreamingImageResponse.streamingImage().stateAsString()));
-                        return false;
-                    }
-                    if (StreamingImageState.READY.equals(getStreamingImageResponse.streamingImage().state())) {
-                        logger.log(String.format("%s [%s] is in state READY, creation succeeded",
-                            ResourceModel.TYPE_NAME, streamingImageId));
-                        return true;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, creation failed", ResourceModel.TYPE_NAME,
-                        streamingImageId, getStreamingImageResponse.streamingImage().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                        getStreamingImageResponse.streamingImage().stateAsString(),
-                        getStreamingImageResponse.streamingImage().statusCodeAsString(),
-                        getStreamingImageResponse.streamingImage().statusMessage()));
+                    return stabilization.isStabilized(streamingImageId, getStreamingImageResponse.streamingImage(),
+                        logger);
                 })
                 .progress()
-            )
-            .then((progress) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            ))
+            .then((progress) -> new ReadHandler()
+                .handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger));
     }
 }
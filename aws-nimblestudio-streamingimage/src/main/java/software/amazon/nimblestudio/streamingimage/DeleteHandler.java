@@ -5,9 +5,9 @@ import software.amazon.awssdk.services.nimble.model.DeleteStreamingImageRequest;
 import software.amazon.awssdk.services.nimble.model.DeleteStreamingImageResponse;
 import software.amazon.awssdk.services.nimble.model.GetStreamingImageRequest;
 import software.amazon.awssdk.services.nimble.model.GetStreamingImageResponse;
+import software.amazon.awssdk.services.nimble.model.StreamingImage;
 import software.amazon.awssdk.services.nimble.model.StreamingImageState;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -15,19 +15,31 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final Stabilizer<StreamingImage, StreamingImageState> STABILIZER = stabilizer("deletion")
+        .succeededOn(StreamingImageState.DELETED)
+        .inProgressOn(StreamingImageState.DELETE_IN_PROGRESS)
+        .failedOn(StreamingImageState.DELETE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        final Stabilizer.Run<StreamingImage, StreamingImageState> stabilization = STABILIZER.begin(callbackContext,
+            deadline);
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
                     "AWS-NimbleStudio-StreamingImage::Delete",
                     proxyClient,
@@ -38,25 +50,35 @@ public class DeleteHandler extends BaseHandlerStd {
                     .studioId(model.getStudioId())
                     .streamingImageId(model.getStreamingImageId())
                     .build())
+                .backoffDelay(stabilization)
                 .makeServiceCall(((deleteStreamingImageRequest, client) -> {
                     final String streamingImageId = deleteStreamingImageRequest.streamingImageId();
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] deletion already requested", ResourceModel.TYPE_NAME,
+                            streamingImageId));
+                        return null;
+                    }
 
                     try {
-                        final GetStreamingImageRequest getStreamingImageRequest = GetStreamingImageRequest.builder()
-                                .streamingImageId(streamingImageId)
-                                .studioId(deleteStreamingImageRequest.studioId())
-                                .build();
-                        final GetStreamingImageResponse getStreamingImageResponse = client
-                                .injectCredentialsAndInvokeV2(getStreamingImageRequest, client.client()::getStreamingImage);
-                        if (StreamingImageState.DELETED.equals(getStreamingImageResponse.streamingImage().state())) {
-                            logger.log(String.format("%s [%s] is already in state DELETED, deletion failed",
-                                    ResourceModel.TYPE_NAME, streamingImageId));
-                            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, streamingImageId);
+                        if (!callbackContext.isPreCheckDone()) {
+                            final GetStreamingImageRequest getStreamingImageRequest = GetStreamingImageRequest.builder()
+                                    .streamingImageId(streamingImageId)
+                                    .studioId(deleteStreamingImageRequest.studioId())
+                                    .build();
+                            final GetStreamingImageResponse getStreamingImageResponse = client
+                                    .injectCredentialsAndInvokeV2(getStreamingImageRequest, client.client()::getStreamingImage);
+                            if (StreamingImageState.DELETED.equals(getStreamingImageResponse.streamingImage().state())) {
+                                logger.log(String.format("%s [%s] is already in state DELETED, deletion failed",
+                                        ResourceModel.TYPE_NAME, streamingImageId));
+                                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, streamingImageId);
+                            }
+                            callbackContext.setPreCheckDone(true);
                         }
 
                         final DeleteStreamingImageResponse deleteStreamingImageResponse = client
                             .injectCredentialsAndInvokeV2(deleteStreamingImageRequest,
                                     client.client()::deleteStreamingImage);
+                        callbackContext.setMutatedResourceId(streamingImageId);
 
                         logger.log(String.format("%s [%s] deletion in progress", ResourceModel.TYPE_NAME,
                             deleteStreamingImageRequest.streamingImageId()));
@@ -70,6 +92,9 @@ public class DeleteHandler extends BaseHandlerStd {
                 }))
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
                     final String streamingImageId = awsRequest.streamingImageId();
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
                     model.setStreamingImageId(streamingImageId);
 
                     GetStreamingImageRequest getStreamingImageRequest = GetStreamingImageRequest.builder()
@@ -87,26 +112,11 @@ public class DeleteHandler extends BaseHandlerStd {
                         throw ExceptionTranslator.translateToCfnException(e);
                     }
 
-                    if (StreamingImageState.DELETE_IN_PROGRESS.equals(getStreamingImageResponse.streamingImage().state())) {
-                        logger.log(String.format("%s [%s] is in state DELETE_IN_PROGRESS, deletion in progress",
-                            ResourceModel.TYPE_NAME, streamingImageId));
-                        return false;
-                    }
-                    if (StreamingImageState.DELETED.equals(getStreamingImageResponse.streamingImage().state())) {
-                        logger.log(String.format("%s [%s] is in state DELETED, deletion succeeded",
-                            ResourceModel.TYPE_NAME, streamingImageId));
-                        return true;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, deletion failed", ResourceModel.TYPE_NAME,
-                        streamingImageId, getStreamingImageResponse.streamingImage().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                        getStreamingImageResponse.streamingImage().stateAsString(),
-                        getStreamingImageResponse.streamingImage().statusCodeAsString(),
-                        getStreamingImageResponse.streamingImage().statusMessage()));
+                    return stabilization.isStabilized(streamingImageId, getStreamingImageResponse.streamingImage(),
+                        logger);
                 })
                 .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .status(OperationStatus.SUCCESS)
-                    .build()));
+                    .build())));
     }
 }
@@ -12,13 +12,21 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.ListMode;
+import software.amazon.nimblestudio.common.ListPage;
 
-import java.util.ArrayList;
-import java.util.List;
+public class ListHandler extends BaseHandlerStd {
 
-import static java.util.stream.Collectors.toList;
+    private final ListMode mode;
 
-public class ListHandler extends BaseHandlerStd {
+    public ListHandler() {
+        this(ListMode.configured());
+    }
+
+    ListHandler(final ListMode mode) {
+        this.mode = mode;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,48 +34,30 @@ public class ListHandler extends BaseHandlerStd {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        final String studioId = request.getDesiredResourceState().getStudioId();
         final ListStreamingImagesRequest listStreamingImagesRequest =
             ListStreamingImagesRequest.builder()
                 .nextToken(request.getNextToken())
-                .studioId(request.getDesiredResourceState().getStudioId())
+                .studioId(studioId)
                 .build();
 
         try {
             final ListStreamingImagesResponse listStreamingImagesResponse = proxyClient.injectCredentialsAndInvokeV2(
                     listStreamingImagesRequest, proxyClient.client()::listStreamingImages);
 
-            final List<StreamingImage> streamingImages = listStreamingImagesResponse.hasStreamingImages() ?
-                listStreamingImagesResponse.streamingImages() :
-                new ArrayList<>();
-
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .status(OperationStatus.SUCCESS)
-                .resourceModels(streamingImages.stream()
-                    .filter(streamingImage -> !StreamingImageState.DELETED.equals(streamingImage.state()))
-                    .map(streamingImage -> {
-                        ResourceModel.ResourceModelBuilder modelBuilder = ResourceModel.builder()
-                            .studioId(request.getDesiredResourceState().getStudioId())
+                .resourceModels(ListPage.translate(listStreamingImagesResponse.streamingImages(),
+                    streamingImage -> !StreamingImageState.DELETED.equals(streamingImage.state()),
+                    streamingImage -> mode == ListMode.IDENTIFIERS_ONLY
+                        ? ResourceModel.builder()
+                            .studioId(studioId)
                             .streamingImageId(streamingImage.streamingImageId())
-                            .ec2ImageId(streamingImage.ec2ImageId())
-                            .name(streamingImage.name())
-                            .description(streamingImage.description())
-                            .owner(streamingImage.owner())
-                            .eulaIds(streamingImage.eulaIds())
-                            .platform(streamingImage.platform())
-                            .tags(streamingImage.tags());
-
-                        if(streamingImage.encryptionConfiguration() != null) {
-                            modelBuilder.encryptionConfiguration(StreamingImageEncryptionConfiguration.builder()
-                                .keyType(streamingImage.encryptionConfiguration().keyTypeAsString())
-                                .keyArn(streamingImage.encryptionConfiguration().keyArn())
-                                .build());
-                        }
-
-                        return modelBuilder.build();
-                    })
-                .collect(toList()))
+                            .build()
+                        : toModel(streamingImage, studioId)))
                 .nextToken(listStreamingImagesResponse.nextToken())
                 .build();
         } catch (final NimbleException e) {
@@ -75,4 +65,26 @@ public class ListHandler extends BaseHandlerStd {
             throw ExceptionTranslator.translateToCfnException(e);
         }
     }
+
+    private static ResourceModel toModel(final StreamingImage streamingImage, final String studioId) {
+        ResourceModel.ResourceModelBuilder modelBuilder = ResourceModel.builder()
+            .studioId(studioId)
+            .streamingImageId(streamingImage.streamingImageId())
+            .ec2ImageId(streamingImage.ec2ImageId())
+            .name(streamingImage.name())
+            .description(streamingImage.description())
+            .owner(streamingImage.owner())
+            .eulaIds(streamingImage.eulaIds())
+            .platform(streamingImage.platform())
+            .tags(streamingImage.tags());
+
+        if(streamingImage.encryptionConfiguration() != null) {
+            modelBuilder.encryptionConfiguration(StreamingImageEncryptionConfiguration.builder()
+                .keyType(streamingImage.encryptionConfiguration().keyTypeAsString())
+                .keyArn(streamingImage.encryptionConfiguration().keyArn())
+                .build());
+        }
+
+        return modelBuilder.build();
+    }
 }
@@ -1,8 +1,7 @@
 package software.amazon.nimblestudio.streamingimage;
 
 import software.amazon.awssdk.services.nimble.NimbleClient;
-import software.amazon.awssdk.services.nimble.model.GetStreamingImageRequest;
-import software.amazon.awssdk.services.nimble.model.GetStreamingImageResponse;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.StreamingImageState;
 import software.amazon.awssdk.services.nimble.model.UpdateStreamingImageRequest;
 import software.amazon.awssdk.services.nimble.model.UpdateStreamingImageResponse;
@@ -15,6 +14,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.nimblestudio.common.InvocationDeadline;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -24,6 +24,7 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
@@ -53,32 +54,36 @@ public class UpdateHandler extends BaseHandlerStd {
                 .makeServiceCall((updateStreamingImageRequest, client) -> {
                     final String streamingImageId = updateStreamingImageRequest.streamingImageId();
 
+                    final UpdateStreamingImageResponse updateStreamingImageResponse;
                     try {
-                        final GetStreamingImageRequest getStreamingImageRequest = GetStreamingImageRequest.builder()
-                                .streamingImageId(streamingImageId)
-                                .studioId(updateStreamingImageRequest.studioId())
-                                .build();
-                        final GetStreamingImageResponse getStreamingImageResponse = client
-                                .injectCredentialsAndInvokeV2(getStreamingImageRequest, client.client()::getStreamingImage);
-                        if (StreamingImageState.DELETED.equals(getStreamingImageResponse.streamingImage().state())) {
-                            logger.log(String.format("%s [%s] is in state DELETED, update failed", ResourceModel.TYPE_NAME,
-                                    streamingImageId));
+                        updateStreamingImageResponse = client.injectCredentialsAndInvokeV2(updateStreamingImageRequest,
+                            client.client()::updateStreamingImage);
+                    } catch (final ConflictException e) {
+                        if (StreamingImageState.DELETED.equals(stateAfterConflict(client,
+                                updateStreamingImageRequest.studioId(), streamingImageId))) {
+                            logger.log(String.format("%s [%s] is in state DELETED, update failed",
+                                    ResourceModel.TYPE_NAME, streamingImageId));
                             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, streamingImageId);
                         }
-
-                        final UpdateStreamingImageResponse updateStreamingImageResponse = client
-                            .injectCredentialsAndInvokeV2(updateStreamingImageRequest,
-                                    client.client()::updateStreamingImage);
-
-                        logger.log(String.format("%s [%s] update requested successfully", ResourceModel.TYPE_NAME,
+                        logger.log(String.format("%s [%s] Exception during update", ResourceModel.TYPE_NAME,
                             streamingImageId));
-
-                        return updateStreamingImageResponse;
+                        throw ExceptionTranslator.translateToCfnException(e);
                     } catch (final NimbleException e) {
                         logger.log(String.format("%s [%s] Exception during update", ResourceModel.TYPE_NAME,
                             streamingImageId));
                         throw ExceptionTranslator.translateToCfnException(e);
                     }
+
+                    if (StreamingImageState.DELETED.equals(updateStreamingImageResponse.streamingImage().state())) {
+                        logger.log(String.format("%s [%s] is in state DELETED, update failed", ResourceModel.TYPE_NAME,
+                                streamingImageId));
+                        throw new CfnNotFoundException(ResourceModel.TYPE_NAME, streamingImageId);
+                    }
+
+                    logger.log(String.format("%s [%s] update requested successfully", ResourceModel.TYPE_NAME,
+                        streamingImageId));
+
+                    return updateStreamingImageResponse;
                 })
                 /*
                  * Even though CREATE and DELETE requests are async and require stabilization, UPDATE requests are
@@ -86,6 +91,7 @@ public class UpdateHandler extends BaseHandlerStd {
                  */
                 .progress()
             )
-            .then((r) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then((r) -> new ReadHandler()
+                .handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger));
     }
 }
@@ -3,6 +3,7 @@ package software.amazon.nimblestudio.streamingimage;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.nimblestudio.common.InvocationDeadline;
 
 import java.time.Duration;
 
@@ -21,4 +22,8 @@ public class AbstractTestBase {
     return new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
         () -> Duration.ofSeconds(remainingTimeToExecuteInMillis).toMillis());
   }
+
+  static InvocationDeadline deadlineOf(final AmazonWebServicesClientProxy proxy) {
+    return InvocationDeadline.of(proxy, logger);
+  }
 }
@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationResponseCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -80,7 +81,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         // Make the CREATE request
         final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         // GET should get called once while stabilizing and once for the final READ
         Mockito.verify(proxyClient, Mockito.times(2))
@@ -97,6 +98,34 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ReadReusesStabilizedResponse() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .clientRequestToken("clientToken")
+            .desiredResourceState(ResourceModel.builder()
+                .studioId("studioId")
+                .ec2ImageId("ec2ImageId")
+                .name("imageName")
+                .build()
+            ).build();
+
+        Mockito.doReturn(generateCreateStreamingImageResponse())
+            .when(proxyClient).injectCredentialsAndInvokeV2(any(CreateStreamingImageRequest.class), any());
+        Mockito.doReturn(Utils.generateGetStreamingImageResponse(StreamingImageState.READY))
+            .when(proxyClient).injectCredentialsAndInvokeV2(any(GetStreamingImageRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+            .handleRequest(proxy, request, new CallbackContext(),
+                new InvocationResponseCache<>(proxyClient, BaseHandlerStd::isSettled), deadlineOf(proxy), logger);
+
+        // The READY response seen while stabilizing is served to the final READ
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2(any(GetStreamingImageRequest.class), any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void handleRequest_CreateSuccess_Stabilization() {
         // Mock request
@@ -123,7 +152,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         // Make the CREATE request
         final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(4))
             .injectCredentialsAndInvokeV2(any(GetStreamingImageRequest.class), any());
@@ -159,7 +188,8 @@ public class CreateHandlerTest extends AbstractTestBase {
             .build();
 
         assertThrows(expectedException, () -> {
-            new CreateHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            new CreateHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy),
+                logger);
         });
     }
 }
@@ -72,7 +72,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         // Make the DELETE request
         final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
-            .handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(3))
                 .injectCredentialsAndInvokeV2(Mockito.any(GetStreamingImageRequest.class), Mockito.any());
@@ -88,13 +88,35 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_DeleteAlreadyRequested_SkipsDelete() {
+        Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStreamingImageRequest.class), any()))
+            .thenReturn(Utils.generateGetStreamingImageResponse(StreamingImageState.DELETED));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPreCheckDone(true);
+        callbackContext.setMutatedResourceId("streamingImageId");
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler()
+            .handleRequest(proxy, generateRequest(), callbackContext, proxyClient, deadlineOf(proxy), logger);
+
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2(Mockito.any(GetStreamingImageRequest.class), Mockito.any());
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(Mockito.any(DeleteStreamingImageRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void handleRequest_AlreadyDeleted_Exception() {
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStreamingImageRequest.class), any()))
             .thenReturn(Utils.generateGetStreamingImageResponse(StreamingImageState.DELETED));
 
         assertThrows(CfnNotFoundException.class, () -> {
-            new DeleteHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            new DeleteHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -109,7 +131,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            new DeleteHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            new DeleteHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
@@ -13,6 +13,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.ListMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -66,7 +67,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
         // Make the LIST request
         final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -82,6 +83,30 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_IdentifiersOnly() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .studioId("studioId")
+                .build())
+            .build();
+
+        Mockito.doReturn(ListStreamingImagesResponse.builder()
+            .streamingImages(Arrays.asList(
+                Utils.generateStreamingImage("streamingImage1", StreamingImageState.READY),
+                Utils.generateStreamingImage("streamingImage2", StreamingImageState.CREATE_IN_PROGRESS)
+            )).build())
+            .when(proxyClient).injectCredentialsAndInvokeV2(any(ListStreamingImagesRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler(ListMode.IDENTIFIERS_ONLY)
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(Arrays.asList(
+            ResourceModel.builder().studioId("studioId").streamingImageId("streamingImage1").build(),
+            ResourceModel.builder().studioId("studioId").streamingImageId("streamingImage2").build()));
+    }
+
     @Test
     public void handleRequest_IgnoreState() {
         // Mock request
@@ -99,7 +124,7 @@ public class ListHandlerTest extends AbstractTestBase {
 
         // Make the LIST request
         final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler()
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(response.getResourceModels()).hasSize(0);
     }
@@ -121,7 +146,8 @@ public class ListHandlerTest extends AbstractTestBase {
             .build();
 
         assertThrows(expectedException, () -> {
-            new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            new ListHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy),
+                logger);
         });
     }
 }
@@ -63,7 +63,7 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         // Make the READ request
         final ProgressEvent<ResourceModel, CallbackContext> handlerResponse = new ReadHandler()
-            .handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(handlerResponse).isNotNull();
         assertThat(handlerResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -82,7 +82,8 @@ public class ReadHandlerTest extends AbstractTestBase {
             .thenReturn(Utils.generateGetStreamingImageResponse(StreamingImageState.DELETED));
 
         assertThrows(CfnNotFoundException.class, () -> {
-            new ReadHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            new ReadHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -98,7 +99,8 @@ public class ReadHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            new ReadHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            new ReadHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
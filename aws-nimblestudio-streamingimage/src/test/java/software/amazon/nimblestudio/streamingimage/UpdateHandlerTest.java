@@ -12,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.Mockito;
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.GetStreamingImageRequest;
 import software.amazon.awssdk.services.nimble.model.StreamingImage;
 import software.amazon.awssdk.services.nimble.model.StreamingImageState;
@@ -76,7 +77,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         // Make the UPDATE request
         final ProgressEvent<ResourceModel, CallbackContext> handlerResponse = new UpdateHandler()
-            .handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(handlerResponse).isNotNull();
         assertThat(handlerResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -91,11 +92,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_AlreadyDeleted_Exception() {
+        Mockito.doThrow(ConflictException.class).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateStreamingImageRequest.class), any());
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStreamingImageRequest.class), any()))
             .thenReturn(Utils.generateGetStreamingImageResponse(StreamingImageState.DELETED));
 
         assertThrows(CfnNotFoundException.class, () -> {
-            new UpdateHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            new UpdateHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -110,7 +114,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            new UpdateHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient, logger);
+            new UpdateHandler().handleRequest(proxy, generateRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
@@ -1,12 +1,24 @@
 package software.amazon.nimblestudio.studio;
 
+import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.NimbleException;
+import software.amazon.awssdk.services.nimble.model.Studio;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.StudioState;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.nimblestudio.common.ClientBuilder;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.NimbleProxyClients;
+import software.amazon.nimblestudio.common.Stabilizer;
+import software.amazon.nimblestudio.common.ThrottleRetryProxyClient;
+
+import java.time.Duration;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -17,11 +29,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger) {
 
+        logger.log(String.format("NimbleClient %s, %s", ClientBuilder.describeClientUsage(),
+            ThrottleRetryProxyClient.describeUsage()));
+
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final InvocationDeadline deadline = InvocationDeadline.of(proxy, logger);
         return handleRequest(
             proxy,
             request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(() -> ClientBuilder.getClient()),
+            context,
+            NimbleProxyClients.decorate(proxy, request, deadline, context, BaseHandlerStd::isSettled),
+            deadline,
             logger
         );
     }
@@ -31,5 +49,47 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger);
+
+    /**
+     * Only GetStudio responses for a resource that is not transitioning can be served again.
+     */
+    static boolean isSettled(final AwsResponse response) {
+        if (!(response instanceof GetStudioResponse)) {
+            return false;
+        }
+
+        final Studio studio = ((GetStudioResponse) response).studio();
+        return studio != null && !String.valueOf(studio.stateAsString()).endsWith("_IN_PROGRESS");
+    }
+
+    /**
+     * Studio creation and deletion take minutes, so polling starts slower and backs off further than for the
+     * other resource types.
+     */
+    static Stabilizer.Builder<Studio, StudioState> stabilizer(final String operation) {
+        return Stabilizer.<Studio, StudioState>builder(ResourceModel.TYPE_NAME, Studio::state,
+                studio -> String.format("%s: %s - %s", studio.stateAsString(), studio.statusCodeAsString(),
+                        studio.statusMessage()))
+            .operation(operation)
+            .polling(Duration.ofSeconds(5), Duration.ofSeconds(60));
+    }
+
+    /**
+     * Update and Delete go straight to the service. It rejects them with a conflict both when the studio is gone and
+     * when it is busy, so only then is the current state read to tell which. Returns null if that read fails too.
+     */
+    static StudioState stateAfterConflict(final ProxyClient<NimbleClient> proxyClient, final String studioId) {
+        try {
+            return proxyClient.injectCredentialsAndInvokeV2(GetStudioRequest.builder().studioId(studioId).build(),
+                proxyClient.client()::getStudio).studio().state();
+        } catch (final NimbleException e) {
+            return null;
+        }
+    }
+
+    static boolean isGone(final StudioState state) {
+        return StudioState.DELETED.equals(state) || StudioState.CREATE_FAILED.equals(state);
+    }
 }
@@ -6,26 +6,43 @@ import software.amazon.awssdk.services.nimble.model.CreateStudioResponse;
 import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
 import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
+import software.amazon.awssdk.services.nimble.model.Studio;
+import software.amazon.awssdk.services.nimble.model.StudioEncryptionConfigurationKeyType;
 import software.amazon.awssdk.services.nimble.model.StudioState;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final Stabilizer<Studio, StudioState> STABILIZER = stabilizer("creation")
+        .succeededOn(StudioState.READY)
+        .inProgressOn(StudioState.CREATE_IN_PROGRESS)
+        .failedOn(StudioState.CREATE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ProxyClient<NimbleClient> proxyClient,
+            final InvocationDeadline deadline,
             final Logger logger) {
 
+        final StudioEncryptionConfiguration encryption =
+            request.getDesiredResourceState().getStudioEncryptionConfiguration();
+        final Stabilizer.Run<Studio, StudioState> stabilization = STABILIZER.begin(callbackContext,
+            deadline,
+            "keyType=" + (encryption == null ? StudioEncryptionConfigurationKeyType.AWS_OWNED_KEY.toString()
+                : encryption.getKeyType()));
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
                         "AWS-NimbleStudio-Studio::Create",
                         proxyClient,
@@ -49,10 +66,18 @@ public class CreateHandler extends BaseHandlerStd {
 
                     return createStudioRequestBuilder.build();
                 })
+                .backoffDelay(stabilization)
                 .makeServiceCall((awsRequest, client) -> {
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] creation already requested", ResourceModel.TYPE_NAME,
+                            callbackContext.getMutatedResourceId()));
+                        return null;
+                    }
+
                     try {
                         final CreateStudioResponse createStudioResponse = client
                                 .injectCredentialsAndInvokeV2(awsRequest, client.client()::createStudio);
+                        callbackContext.setMutatedResourceId(createStudioResponse.studio().studioId());
 
                         logger.log(String.format("%s [%s] creation requested successfully", ResourceModel.TYPE_NAME,
                                 createStudioResponse.studio().studioName()));
@@ -64,8 +89,11 @@ public class CreateHandler extends BaseHandlerStd {
                     }
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
-                    final String studioId = awsResponse.studio().studioId();
+                    final String studioId = context.getMutatedResourceId();
                     model.setStudioId(studioId);
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
                     GetStudioResponse getStudioResponse;
 
                     try {
@@ -77,25 +105,10 @@ public class CreateHandler extends BaseHandlerStd {
                         throw Translator.translateToCfnException(e);
                     }
 
-                    if (StudioState.CREATE_IN_PROGRESS.equals(getStudioResponse.studio().state())) {
-                        logger.log(String.format("%s [%s] is in state CREATE_IN_PROGRESS, creation in progress", ResourceModel.TYPE_NAME,
-                                studioId));
-                        return false;
-                    }
-                    if (StudioState.READY.equals(getStudioResponse.studio().state())) {
-                        logger.log(String.format("%s [%s] is in state READY, creation succeeded", ResourceModel.TYPE_NAME,
-                                studioId));
-                        return true;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, creation failed", ResourceModel.TYPE_NAME,
-                            studioId, getStudioResponse.studio().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                            getStudioResponse.studio().stateAsString(),
-                            getStudioResponse.studio().statusCodeAsString(),
-                            getStudioResponse.studio().statusMessage()));
+                    return stabilization.isStabilized(studioId, getStudioResponse.studio(), logger);
                 })
-                .progress())
-            .then((r) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .progress()))
+            .then((r) -> new ReadHandler()
+                .handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger));
     }
 }
@@ -1,14 +1,13 @@
 package software.amazon.nimblestudio.studio;
 
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.DeleteStudioRequest;
-import software.amazon.awssdk.services.nimble.model.DeleteStudioResponse;
 import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
 import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
 import software.amazon.awssdk.services.nimble.model.Studio;
 import software.amazon.awssdk.services.nimble.model.StudioState;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -16,9 +15,17 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final Stabilizer<Studio, StudioState> STABILIZER = stabilizer("deletion")
+        .succeededOn(StudioState.DELETED, StudioState.CREATE_FAILED)
+        .inProgressOn(StudioState.DELETE_IN_PROGRESS)
+        .failedOn(StudioState.DELETE_FAILED)
+        .build();
+
     private Logger logger;
 
     @Override
@@ -27,12 +34,15 @@ public class DeleteHandler extends BaseHandlerStd {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
         this.logger = logger;
 
+        final Stabilizer.Run<Studio, StudioState> stabilization = STABILIZER.begin(callbackContext, deadline);
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
                     "AWS-NimbleStudio-Studio::Delete",
                     proxyClient,
@@ -42,59 +52,49 @@ public class DeleteHandler extends BaseHandlerStd {
                     .clientToken(request.getClientRequestToken())
                     .studioId(model.getStudioId())
                     .build())
+                .backoffDelay(stabilization)
                 .makeServiceCall((awsRequest, client) -> {
                     final String studioId = awsRequest.studioId();
-                    final Studio studio = GetStudio(studioId, client);
-                    final StudioState studioState = studio.state();
-
-                    // If the studio is already DELETING, don't send another DELETE request (which will fail)
-                    if(StudioState.DELETE_IN_PROGRESS.equals(studioState)) {
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] deletion already requested", ResourceModel.TYPE_NAME,
+                            studioId));
                         return null;
                     }
-                    if (StudioState.DELETED.equals(studioState) || StudioState.CREATE_FAILED.equals(studioState)) {
-                        logger.log(String.format("%s [%s] is already in state %s, deletion failed",
-                            ResourceModel.TYPE_NAME, studioId, studioState.toString()));
-                        throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioId);
-                    }
-
                     try {
-                        final NimbleClient studioClient = client.client();
-                        final DeleteStudioResponse deleteStudioResponse = client
-                            .injectCredentialsAndInvokeV2(awsRequest, studioClient::deleteStudio);
+                        client.injectCredentialsAndInvokeV2(awsRequest, client.client()::deleteStudio);
                         logger.log(String.format("%s [%s] DELETE requested successfully", ResourceModel.TYPE_NAME, studioId));
-                        return deleteStudioResponse;
+                    } catch (final ConflictException e) {
+                        final StudioState studioState = stateAfterConflict(client, studioId);
+                        if (isGone(studioState)) {
+                            logger.log(String.format("%s [%s] is already in state %s, deletion failed",
+                                ResourceModel.TYPE_NAME, studioId, studioState.toString()));
+                            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioId);
+                        }
+                        // A studio that is already DELETING rejects another DELETE request, which is fine
+                        if (!StudioState.DELETE_IN_PROGRESS.equals(studioState)) {
+                            logger.log(String.format("%s [%s] exception during deletion", ResourceModel.TYPE_NAME,
+                                studioId));
+                            throw Translator.translateToCfnException(e);
+                        }
                     } catch (final NimbleException e) {
                         logger.log(String.format("%s [%s] exception during deletion", ResourceModel.TYPE_NAME,
                             studioId));
                         throw Translator.translateToCfnException(e);
                     }
+
+                    callbackContext.setMutatedResourceId(studioId);
+                    return null;
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
                     final String studioId = awsRequest.studioId();
-                    final Studio studio = GetStudio(studioId, client);
-                    final StudioState studioState = studio.state();
-
-                    if (StudioState.DELETED.equals(studioState) || StudioState.CREATE_FAILED.equals(studioState)) {
-                        logger.log(String.format("%s [%s] is in state %s, deletion succeeded",
-                            ResourceModel.TYPE_NAME, studioId, studioState));
-                        return true;
-                    }
-                    if (StudioState.DELETE_IN_PROGRESS.equals(studioState)) {
-                        logger.log(String.format("%s [%s] is in state %s, deletion in progress",
-                            ResourceModel.TYPE_NAME, studioId, studioState));
+                    if (stabilization.isHoldingOff()) {
                         return false;
                     }
-
-                    logger.log(String.format("%s [%s] is in unexpected state %s, deletion failed",
-	                    ResourceModel.TYPE_NAME, studioId, studioState));
-
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                            studio.stateAsString(),
-                            studio.statusCodeAsString(),
-                            studio.statusMessage()));
+                    final Studio studio = GetStudio(studioId, client);
+                    return stabilization.isStabilized(studioId, studio, logger);
                 })
                 .done(awsResponse ->
-                    ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).build()));
+                    ProgressEvent.<ResourceModel, CallbackContext>builder().status(OperationStatus.SUCCESS).build())));
     }
 
     private Studio GetStudio(final String studioId, final ProxyClient<NimbleClient> proxyClient) {
@@ -4,7 +4,6 @@ import software.amazon.awssdk.services.nimble.NimbleClient;
 import software.amazon.awssdk.services.nimble.model.ListStudiosRequest;
 import software.amazon.awssdk.services.nimble.model.ListStudiosResponse;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
-import software.amazon.awssdk.services.nimble.model.Studio;
 import software.amazon.awssdk.services.nimble.model.StudioState;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -12,20 +11,31 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.ListMode;
+import software.amazon.nimblestudio.common.ListPage;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import static java.util.stream.Collectors.toList;
-
 public class ListHandler extends BaseHandlerStd {
 
+    private final ListMode mode;
+
+    public ListHandler() {
+        this(ListMode.configured());
+    }
+
+    ListHandler(final ListMode mode) {
+        this.mode = mode;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
         final NimbleClient studioClient = proxyClient.client();
@@ -41,16 +51,13 @@ public class ListHandler extends BaseHandlerStd {
             throw Translator.translateToCfnException(e);
         }
 
-        final List<Studio> studios = listStudiosResponse.hasStudios() ?
-                listStudiosResponse.studios() :
-                new ArrayList<>();
-
-        final List<ResourceModel> models = studios.stream()
-                .filter(studio ->
+        final List<ResourceModel> models = ListPage.translate(listStudiosResponse.studios(),
+                studio ->
                     !StudioState.DELETED.equals(studio.state()) &&
-                    !StudioState.CREATE_FAILED.equals(studio.state()))
-                .map(Translator::toModel)
-                .collect(toList());
+                    !StudioState.CREATE_FAILED.equals(studio.state()),
+                studio -> mode == ListMode.IDENTIFIERS_ONLY
+                    ? ResourceModel.builder().studioId(studio.studioId()).build()
+                    : Translator.toModel(studio));
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModels(models)
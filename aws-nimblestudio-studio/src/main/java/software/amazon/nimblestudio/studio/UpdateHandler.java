@@ -1,25 +1,43 @@
 package software.amazon.nimblestudio.studio;
 
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
 import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
 import software.amazon.awssdk.services.nimble.model.Studio;
 import software.amazon.awssdk.services.nimble.model.UpdateStudioRequest;
-import software.amazon.awssdk.services.nimble.model.UpdateStudioResponse;
 import software.amazon.awssdk.services.nimble.model.StudioState;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.ModelFingerprint;
+import software.amazon.nimblestudio.common.PropertyDiff;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 import software.amazon.awssdk.utils.StringUtils;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class UpdateHandler extends BaseHandlerStd {
 
+    /**
+     * Assigned by the service, so they don't tell whether an update changes anything.
+     */
+    private static final List<String> READ_ONLY_PROPERTIES = Arrays.asList(
+        "HomeRegion", "SsoClientId", "StudioId", "StudioUrl");
+
+    private static final Stabilizer<Studio, StudioState> STABILIZER = stabilizer("update")
+        .succeededOn(StudioState.READY)
+        .inProgressOn(StudioState.UPDATE_IN_PROGRESS)
+        .failedOn(StudioState.UPDATE_FAILED)
+        .build();
+
     private Logger logger;
 
     @Override
@@ -28,12 +46,23 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
         this.logger = logger;
 
+        if (isUnchanged(request)) {
+            logger.log(String.format("%s [%s] has no effective changes, skipping update", ResourceModel.TYPE_NAME,
+                request.getDesiredResourceState().getStudioId()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger);
+        }
+
+        final Stabilizer.Run<Studio, StudioState> stabilization = STABILIZER.begin(callbackContext, deadline);
+        final PropertyDiff<ResourceModel> diff = PropertyDiff.between(request.getPreviousResourceState(),
+            request.getDesiredResourceState());
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
                     "AWS-NimbleStudio-Studio::Update",
                     proxyClient,
@@ -44,69 +73,73 @@ public class UpdateHandler extends BaseHandlerStd {
                         .clientToken(request.getClientRequestToken())
                         .studioId(model.getStudioId());
 
-                    if (!StringUtils.isEmpty(model.getDisplayName())) {
+                    // Unchanged properties are left out so the service doesn't re-apply them
+                    if (!StringUtils.isEmpty(model.getDisplayName()) && diff.changed(ResourceModel::getDisplayName)) {
                         updateStudioBuilder.displayName(model.getDisplayName());
                     }
 
-                    if (!StringUtils.isEmpty(model.getAdminRoleArn())) {
+                    if (!StringUtils.isEmpty(model.getAdminRoleArn()) && diff.changed(ResourceModel::getAdminRoleArn)) {
                         updateStudioBuilder.adminRoleArn(model.getAdminRoleArn());
                     }
 
-                    if (!StringUtils.isEmpty(model.getUserRoleArn())) {
+                    if (!StringUtils.isEmpty(model.getUserRoleArn()) && diff.changed(ResourceModel::getUserRoleArn)) {
                         updateStudioBuilder.userRoleArn(model.getUserRoleArn());
                     }
 
                     return updateStudioBuilder.build();
                 })
+                .backoffDelay(stabilization)
                 .makeServiceCall((awsRequest, client) -> {
                     final NimbleClient studioClient = client.client();
                     final String studioId = awsRequest.studioId();
-
-                    final StudioState studioState = getStudio(client, studioId).state();
-                    if (StudioState.DELETED.equals(studioState) || StudioState.CREATE_FAILED.equals(studioState)) {
-                        logger.log(String.format("%s [%s] is in state %s, update failed", ResourceModel.TYPE_NAME,
-                            studioId, studioState));
-                        throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioId);
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] update already requested", ResourceModel.TYPE_NAME,
+                            studioId));
+                        return null;
                     }
 
+                    final StudioState studioState;
                     try {
-                        final UpdateStudioResponse updateStudioResponse = client
-                            .injectCredentialsAndInvokeV2(awsRequest, studioClient::updateStudio);
-
-                        logger.log(String.format("%s [%s] update requested successfully", ResourceModel.TYPE_NAME, studioId));
-
-                        return updateStudioResponse;
+                        studioState = client.injectCredentialsAndInvokeV2(awsRequest, studioClient::updateStudio)
+                            .studio()
+                            .state();
+                    } catch (final ConflictException e) {
+                        if (isGone(stateAfterConflict(client, studioId))) {
+                            logger.log(String.format("%s [%s] no longer exists, update failed", ResourceModel.TYPE_NAME,
+                                studioId));
+                            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioId);
+                        }
+                        logger.log(String.format("%s [%s] exception during update", ResourceModel.TYPE_NAME, studioId));
+                        throw Translator.translateToCfnException(e);
                     } catch (final NimbleException e) {
                         logger.log(String.format("%s [%s] exception during update", ResourceModel.TYPE_NAME, studioId));
                         throw Translator.translateToCfnException(e);
                     }
 
+                    if (isGone(studioState)) {
+                        logger.log(String.format("%s [%s] is in state %s, update failed", ResourceModel.TYPE_NAME,
+                            studioId, studioState));
+                        throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioId);
+                    }
+
+                    callbackContext.setMutatedResourceId(studioId);
+                    logger.log(String.format("%s [%s] update requested successfully", ResourceModel.TYPE_NAME,
+                        studioId));
+                    return null;
                 })
                 .stabilize((awsRequest, awsResponse, client, updateModel, context) -> {
                     final String studioId = request.getDesiredResourceState().getStudioId();
-                    final Studio studio = getStudio(proxyClient, studioId);
-
-                    if (StudioState.READY.equals(studio.state())) {
-                        logger.log(String.format("%s [%s] is in state READY, update succeeded", ResourceModel.TYPE_NAME, studioId));
-                        return true;
-                    }
-                    if (StudioState.UPDATE_IN_PROGRESS.equals(studio.state())) {
-                        logger.log(String.format("%s [%s] is in state UPDATING, update pending", ResourceModel.TYPE_NAME,
-                            studioId));
+                    if (stabilization.isHoldingOff()) {
                         return false;
                     }
+                    final Studio studio = getStudio(proxyClient, studioId);
 
-                    logger.log(String.format("%s [%s] is in state %s, update failed", ResourceModel.TYPE_NAME, studioId,
-                        studio.state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                        studio.stateAsString(),
-                        studio.statusCodeAsString(),
-                        studio.statusMessage()));
+                    return stabilization.isStabilized(studioId, studio, logger);
 
                 })
                 .progress()
-        )
-        .then((r) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+        ))
+        .then((r) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger));
     }
 
     private Studio getStudio(final ProxyClient<NimbleClient> proxyClient, final String studioId) {
@@ -120,4 +153,9 @@ public class UpdateHandler extends BaseHandlerStd {
             throw Translator.translateToCfnException(e);
         }
     }
+
+    private static boolean isUnchanged(final ResourceHandlerRequest<ResourceModel> request) {
+        return request.getPreviousResourceState() != null && ModelFingerprint.same(request.getPreviousResourceState(),
+            request.getDesiredResourceState(), READ_ONLY_PROPERTIES);
+    }
 }
@@ -15,6 +15,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationResponseCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -116,7 +117,8 @@ public class CreateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(CreateStudioRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         final ResourceModel expectedResponseModel = ResourceModel.builder()
             .adminRoleArn("aGIAMARN")
@@ -147,6 +149,24 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ReadReusesStabilizedResponse() {
+        Mockito.doReturn(Utils.generateReadStudioReadyResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+        Mockito.doReturn(generateCreateStudioResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(CreateStudioRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+            generateCreateHandlerRequest(), new CallbackContext(),
+            new InvocationResponseCache<>(proxyClient, BaseHandlerStd::isSettled), deadlineOf(proxy), logger);
+
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2(Mockito.any(GetStudioRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void handleRequest_StudioDeleted() {
         Mockito.doReturn(Utils.generateReadStudioDeletedResult()).when(proxyClient)
@@ -155,7 +175,8 @@ public class CreateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(CreateStudioRequest.class), any());
 
         assertThrows(CfnGeneralServiceException.class, () -> {
-            handler.handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         }, "STUDIO_DELETED - Delete Complete");
     }
 
@@ -170,7 +191,8 @@ public class CreateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(CreateStudioRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         final ResourceModel expectedResponseModel = ResourceModel.builder()
             .adminRoleArn("aGIAMARN")
@@ -208,7 +230,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
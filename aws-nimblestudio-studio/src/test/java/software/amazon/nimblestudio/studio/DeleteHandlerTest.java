@@ -4,6 +4,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.DeleteStudioRequest;
 import software.amazon.awssdk.services.nimble.model.DeleteStudioResponse;
 import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
@@ -97,7 +98,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     @Test
     public void handleRequest_DeleteSuccess_Stabilization() {
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
-            .thenReturn(Utils.generateReadStudioReadyResult())
+            .thenReturn(Utils.generateReadStudioDeletingResult())
             .thenReturn(Utils.generateReadStudioDeletingResult())
             .thenReturn(Utils.generateReadStudioDeletedResult());
 
@@ -105,7 +106,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(DeleteStudioRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(3))
             .injectCredentialsAndInvokeV2(Mockito.any(GetStudioRequest.class), Mockito.any());
@@ -135,17 +137,41 @@ public class DeleteHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = generateDeleteHandlerRequest();
 
         assertThrows(CfnGeneralServiceException.class, () -> {
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
         });
     }
 
+    @Test
+    public void handleRequest_DeleteAlreadyRequested_SkipsDelete() {
+        Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenReturn(Utils.generateReadStudioDeletedResult());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setMutatedResourceId("id");
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, generateDeleteHandlerRequest(), callbackContext, proxyClient, deadlineOf(proxy),
+                logger);
+
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2(Mockito.any(GetStudioRequest.class), Mockito.any());
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(Mockito.any(DeleteStudioRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void handleRequest_AlreadyDeleted_Exception() {
+        Mockito.doThrow(ConflictException.class).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(DeleteStudioRequest.class), any());
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
             .thenReturn(Utils.generateReadStudioDeletedResult());
 
         assertThrows(CfnNotFoundException.class, () -> {
-            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -156,7 +182,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
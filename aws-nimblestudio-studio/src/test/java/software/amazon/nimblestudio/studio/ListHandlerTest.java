@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.ListMode;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -77,7 +78,8 @@ public class ListHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(ListStudiosRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateListHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateListHandlerRequest(), new CallbackContext(), proxyClient, deadlineOf(proxy),
+                logger);
 
         List<ResourceModel> expectedModels = Arrays.asList(
             ResourceModel.builder()
@@ -123,6 +125,22 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_IdentifiersOnly() {
+        Mockito.doReturn(generateListStudioResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListStudiosRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ListHandler(ListMode.IDENTIFIERS_ONLY)
+            .handleRequest(proxy, generateListHandlerRequest(), new CallbackContext(), proxyClient, deadlineOf(proxy),
+                logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("1231j091j23");
+        assertThat(response.getResourceModels()).isEqualTo(Arrays.asList(
+            ResourceModel.builder().studioId("id1").build(),
+            ResourceModel.builder().studioId("id2").build()));
+    }
+
     @ParameterizedTest
     @MethodSource("testParamsForException")
     public void handleRequest_Failed_Exception(final Class<Throwable> thrownException,
@@ -130,7 +148,8 @@ public class ListHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateListHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateListHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
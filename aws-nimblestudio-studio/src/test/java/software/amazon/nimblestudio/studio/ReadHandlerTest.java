@@ -98,7 +98,8 @@ public class ReadHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient, deadlineOf(proxy),
+                logger);
 
         final ResourceModel expectedResponseModel = ResourceModel.builder()
             .adminRoleArn("aGIAMARN")
@@ -132,7 +133,8 @@ public class ReadHandlerTest extends AbstractTestBase {
             .thenReturn(Utils.generateReadStudioDeletedResult());
 
         assertThrows(CfnNotFoundException.class, () -> {
-            handler.handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -143,7 +145,8 @@ public class ReadHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
@@ -4,6 +4,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
 import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
 import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
 import software.amazon.awssdk.services.nimble.model.Studio;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Mock;
@@ -116,7 +118,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         final ResourceModel expectedResponseModel = ResourceModel.builder()
             .adminRoleArn("aGIAMARN")
@@ -134,7 +137,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build())
             .build();
 
-        Mockito.verify(proxyClient, Mockito.times(3))
+        Mockito.verify(proxyClient, Mockito.times(2))
             .injectCredentialsAndInvokeV2(Mockito.any(GetStudioRequest.class), Mockito.any());
 
         assertThat(response).isNotNull();
@@ -147,6 +150,65 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_NoEffectiveChange_SkipsUpdate() {
+        Mockito.doReturn(Utils.generateReadStudioUpdatedResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+
+        final ResourceModel desired = generateUpdateHandlerRequest().getDesiredResourceState();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(ResourceModel.builder()
+                .adminRoleArn("aGIAMARN")
+                .displayName("UpdateStudioDisplayName")
+                .homeRegion("us-west-2")
+                .studioId("idUpdated")
+                .studioUrl("studiourl")
+                .userRoleArn("uGIAMARN")
+                .tags(Utils.generateTags())
+                .build())
+            .desiredResourceState(desired)
+            .clientRequestToken("clientToken").build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(Mockito.any(UpdateStudioRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getStudioUrl()).isEqualTo("studiourl");
+    }
+
+    @Test
+    public void handleRequest_SendsChangedPropertiesOnly() {
+        Mockito.doReturn(Utils.generateReadStudioUpdatedResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+        Mockito.doReturn(generateUpdateStudioResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
+
+        final ResourceModel previous = generateUpdateHandlerRequest().getDesiredResourceState();
+        previous.setDisplayName("StudioDisplayName");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previous)
+            .desiredResourceState(generateUpdateHandlerRequest().getDesiredResourceState())
+            .clientRequestToken("clientToken")
+            .build();
+
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        final ArgumentCaptor<UpdateStudioRequest> argumentCaptor = ArgumentCaptor.forClass(UpdateStudioRequest.class);
+        Mockito.verify(proxyClient, Mockito.times(3))
+            .injectCredentialsAndInvokeV2(argumentCaptor.capture(), Mockito.any());
+        final UpdateStudioRequest updateStudioRequest = argumentCaptor.getAllValues().get(0);
+
+        assertThat(updateStudioRequest.studioId()).isEqualTo("idUpdated");
+        assertThat(updateStudioRequest.displayName()).isEqualTo("UpdateStudioDisplayName");
+        assertThat(updateStudioRequest.adminRoleArn()).isNull();
+        assertThat(updateStudioRequest.userRoleArn()).isNull();
+    }
+
     @Test
     public void handleRequest_UpdateSuccess_Stabilization() {
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
@@ -158,7 +220,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         final ResourceModel expectedResponseModel = ResourceModel.builder()
             .adminRoleArn("aGIAMARN")
@@ -217,7 +280,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateUpdateHandlerBlankRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateUpdateHandlerBlankRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         final ResourceModel expectedResponseModel = ResourceModel.builder()
             .displayName("UpdateStudioDisplayName")
@@ -244,11 +308,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_AlreadyDeleted_Exception() {
+        Mockito.doThrow(ConflictException.class).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
             .thenReturn(Utils.generateReadStudioDeletedResult());
 
         assertThrows(CfnNotFoundException.class, () -> {
-            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -259,7 +326,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -1,12 +1,22 @@
 package software.amazon.nimblestudio.studiocomponent;
 
+import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.StudioComponent;
+import software.amazon.awssdk.services.nimble.model.GetStudioComponentResponse;
+import software.amazon.awssdk.services.nimble.model.StudioComponentState;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.nimblestudio.common.ClientBuilder;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.NimbleProxyClients;
+import software.amazon.nimblestudio.common.Stabilizer;
+import software.amazon.nimblestudio.common.ThrottleRetryProxyClient;
+
+import java.time.Duration;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
@@ -17,11 +27,17 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final CallbackContext callbackContext,
         final Logger logger) {
 
+        logger.log(String.format("NimbleClient %s, %s", ClientBuilder.describeClientUsage(),
+            ThrottleRetryProxyClient.describeUsage()));
+
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final InvocationDeadline deadline = InvocationDeadline.of(proxy, logger);
         return handleRequest(
             proxy,
             request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(() -> ClientBuilder.getClient()),
+            context,
+            NimbleProxyClients.decorate(proxy, request, deadline, context, BaseHandlerStd::isSettled),
+            deadline,
             logger
         );
     }
@@ -31,5 +47,29 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger);
+
+    /**
+     * Only GetStudioComponent responses for a resource that is not transitioning can be served again.
+     */
+    static boolean isSettled(final AwsResponse response) {
+        if (!(response instanceof GetStudioComponentResponse)) {
+            return false;
+        }
+
+        final StudioComponent studioComponent = ((GetStudioComponentResponse) response).studioComponent();
+        return studioComponent != null && !String.valueOf(studioComponent.stateAsString()).endsWith("_IN_PROGRESS");
+    }
+
+    /**
+     * Stabilization settings shared by the handlers of this resource type.
+     */
+    static Stabilizer.Builder<StudioComponent, StudioComponentState> stabilizer(final String operation) {
+        return Stabilizer.<StudioComponent, StudioComponentState>builder(ResourceModel.TYPE_NAME, StudioComponent::state,
+                studioComponent -> String.format("%s: %s - %s", studioComponent.stateAsString(), studioComponent.statusCodeAsString(),
+                        studioComponent.statusMessage()))
+            .operation(operation)
+            .polling(Duration.ofSeconds(2), Duration.ofSeconds(20));
+    }
 }
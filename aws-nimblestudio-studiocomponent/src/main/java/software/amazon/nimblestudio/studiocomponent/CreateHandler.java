@@ -10,16 +10,18 @@ import software.amazon.awssdk.services.nimble.model.GetStudioComponentResponse;
 import software.amazon.awssdk.services.nimble.model.LicenseServiceConfiguration;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
 import software.amazon.awssdk.services.nimble.model.SharedFileSystemConfiguration;
+import software.amazon.awssdk.services.nimble.model.StudioComponent;
 import software.amazon.awssdk.services.nimble.model.StudioComponentState;
 import software.amazon.awssdk.services.nimble.model.StudioComponentConfiguration;
 import software.amazon.awssdk.services.nimble.model.StudioComponentInitializationScript;
 import software.amazon.awssdk.utils.StringUtils;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 import java.util.List;
 
@@ -27,40 +29,67 @@ import static java.util.stream.Collectors.toList;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final String CALL_GRAPH = "AWS-NimbleStudio-StudioComponent::Create";
+
+    private static final Stabilizer<StudioComponent, StudioComponentState> STABILIZER = stabilizer("creation")
+        .succeededOn(StudioComponentState.READY)
+        .inProgressOn(StudioComponentState.CREATE_IN_PROGRESS)
+        .failedOn(StudioComponentState.CREATE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        final Stabilizer.Run<StudioComponent, StudioComponentState> stabilization = STABILIZER.begin(callbackContext,
+            deadline,
+            "type=" + request.getDesiredResourceState().getType(),
+            "subtype=" + request.getDesiredResourceState().getSubtype());
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
-                    "AWS-NimbleStudio-StudioComponent::Create",
+                    CALL_GRAPH,
                     proxyClient,
                     progress.getResourceModel(),
                     progress.getCallbackContext()
                 )
                 .translateToServiceRequest(model -> fromResourceModel(model, request.getClientRequestToken()))
+                .backoffDelay(stabilization)
                 .makeServiceCall((awsRequest, client) -> {
+                    callbackContext.evictRequestRecord(CALL_GRAPH);
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] creation already requested", ResourceModel.TYPE_NAME,
+                            callbackContext.getMutatedResourceId()));
+                        return null;
+                    }
+
                     try {
                         final CreateStudioComponentResponse createStudioComponentResponse = client
                             .injectCredentialsAndInvokeV2(awsRequest, client.client()::createStudioComponent);
+                        callbackContext.setMutatedResourceId(
+                            createStudioComponentResponse.studioComponent().studioComponentId());
 
                         logger.log(String.format("%s [%s] create requested successfully", ResourceModel.TYPE_NAME,
                             createStudioComponentResponse.studioComponent().studioComponentId()));
 
-                        return createStudioComponentResponse;
+                        return null;
                     } catch (final NimbleException e) {
                         logger.log(String.format("Exception during CREATE: %s.", ResourceModel.TYPE_NAME));
                         throw ExceptionTranslator.translateToCfnException(e);
                     }
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
-                    final String studioComponentId = awsResponse.studioComponent().studioComponentId();
+                    final String studioComponentId = context.getMutatedResourceId();
                     model.setStudioComponentId(studioComponentId);
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
 
                     GetStudioComponentRequest getStudioComponentRequest = GetStudioComponentRequest.builder()
                             .studioId(awsRequest.studioId())
@@ -77,27 +106,13 @@ public class CreateHandler extends BaseHandlerStd {
                         throw ExceptionTranslator.translateToCfnException(e);
                     }
 
-                    if (StudioComponentState.CREATE_IN_PROGRESS.equals(getStudioComponentResponse.studioComponent().state())) {
-                        logger.log(String.format("%s [%s] is in state CREATE_IN_PROGRESS, creation in progress",
-                                ResourceModel.TYPE_NAME, studioComponentId));
-                        return false;
-                    }
-                    if (StudioComponentState.READY.equals(getStudioComponentResponse.studioComponent().state())) {
-                        logger.log(String.format("%s [%s] is in state READY, creation succeeded",
-                                ResourceModel.TYPE_NAME, studioComponentId));
-                        return true;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, creation failed", ResourceModel.TYPE_NAME,
-                            studioComponentId, getStudioComponentResponse.studioComponent().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                            getStudioComponentResponse.studioComponent().stateAsString(),
-                            getStudioComponentResponse.studioComponent().statusCodeAsString(),
-                            getStudioComponentResponse.studioComponent().statusMessage()));
+                    return stabilization.isStabilized(studioComponentId, getStudioComponentResponse.studioComponent(),
+                        logger);
                 })
                 .progress()
-            )
-            .then((r) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            ))
+            .then((r) -> new ReadHandler()
+                .handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger));
     }
 
 
@@ -1,13 +1,12 @@
 package software.amazon.nimblestudio.studiocomponent;
 
 import software.amazon.awssdk.services.nimble.NimbleClient;
-import software.amazon.awssdk.services.nimble.model.DeleteStudioComponentResponse;
 import software.amazon.awssdk.services.nimble.model.DeleteStudioComponentRequest;
 import software.amazon.awssdk.services.nimble.model.GetStudioComponentRequest;
 import software.amazon.awssdk.services.nimble.model.GetStudioComponentResponse;
+import software.amazon.awssdk.services.nimble.model.StudioComponent;
 import software.amazon.awssdk.services.nimble.model.StudioComponentState;
 import software.amazon.awssdk.services.nimble.model.NimbleException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -15,21 +14,37 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final String CALL_GRAPH = "AWS-NimbleStudio-StudioComponent::Delete";
+
+    private static final Stabilizer<StudioComponent, StudioComponentState> STABILIZER = stabilizer("deletion")
+        .succeededOn(StudioComponentState.DELETED, StudioComponentState.CREATE_FAILED)
+        .inProgressOn(StudioComponentState.DELETE_IN_PROGRESS)
+        .failedOn(StudioComponentState.DELETE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        final Stabilizer.Run<StudioComponent, StudioComponentState> stabilization = STABILIZER.begin(callbackContext,
+            deadline,
+            "type=" + request.getDesiredResourceState().getType(),
+            "subtype=" + request.getDesiredResourceState().getSubtype());
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
-                    "AWS-NimbleStudio-StudioComponent::Delete",
+                    CALL_GRAPH,
                     proxyClient,
                     progress.getResourceModel(),
                     progress.getCallbackContext())
@@ -38,37 +53,48 @@ public class DeleteHandler extends BaseHandlerStd {
                     .studioId(model.getStudioId())
                     .studioComponentId(model.getStudioComponentId())
                     .build())
+                .backoffDelay(stabilization)
                 .makeServiceCall((deleteStudioComponentRequest, client) -> {
+                    callbackContext.evictRequestRecord(CALL_GRAPH);
                     final String studioComponentId = deleteStudioComponentRequest.studioComponentId();
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] deletion already requested", ResourceModel.TYPE_NAME,
+                            studioComponentId));
+                        return null;
+                    }
 
                     try {
-                        final GetStudioComponentRequest getStudioComponentRequest = GetStudioComponentRequest.builder()
-                                .studioComponentId(studioComponentId)
-                                .studioId(deleteStudioComponentRequest.studioId())
-                                .build();
-                        final GetStudioComponentResponse getStudioComponentResponse = client
-                                .injectCredentialsAndInvokeV2(getStudioComponentRequest, client.client()::getStudioComponent);
-                        final StudioComponentState state = getStudioComponentResponse.studioComponent().state();
-                        if (StudioComponentState.DELETE_IN_PROGRESS.equals(state)) {
-                            logger.log(String.format("%s [%s] is already in state DELETE_IN_PROGRESS",
-                                    ResourceModel.TYPE_NAME, studioComponentId));
-                            return null;
-                        }
-                        if (StudioComponentState.DELETED.equals(state) ||
-                            StudioComponentState.CREATE_FAILED.equals(state)) {
-                            logger.log(String.format("%s [%s] is already in state %s, deletion failed",
-                                ResourceModel.TYPE_NAME, studioComponentId, state.toString()));
-                            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioComponentId);
+                        if (!callbackContext.isPreCheckDone()) {
+                            final GetStudioComponentRequest getStudioComponentRequest = GetStudioComponentRequest.builder()
+                                    .studioComponentId(studioComponentId)
+                                    .studioId(deleteStudioComponentRequest.studioId())
+                                    .build();
+                            final GetStudioComponentResponse getStudioComponentResponse = client
+                                    .injectCredentialsAndInvokeV2(getStudioComponentRequest, client.client()::getStudioComponent);
+                            final StudioComponentState state = getStudioComponentResponse.studioComponent().state();
+                            if (StudioComponentState.DELETE_IN_PROGRESS.equals(state)) {
+                                logger.log(String.format("%s [%s] is already in state DELETE_IN_PROGRESS",
+                                        ResourceModel.TYPE_NAME, studioComponentId));
+                                callbackContext.setMutatedResourceId(studioComponentId);
+                                return null;
+                            }
+                            if (StudioComponentState.DELETED.equals(state) ||
+                                StudioComponentState.CREATE_FAILED.equals(state)) {
+                                logger.log(String.format("%s [%s] is already in state %s, deletion failed",
+                                    ResourceModel.TYPE_NAME, studioComponentId, state.toString()));
+                                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioComponentId);
+                            }
+                            callbackContext.setPreCheckDone(true);
                         }
 
-                        final DeleteStudioComponentResponse deleteStudioComponentResponse = client
-                                .injectCredentialsAndInvokeV2(deleteStudioComponentRequest,
-                                        client.client()::deleteStudioComponent);
+                        client.injectCredentialsAndInvokeV2(deleteStudioComponentRequest,
+                            client.client()::deleteStudioComponent);
+                        callbackContext.setMutatedResourceId(studioComponentId);
 
                         logger.log(String.format("%s [%s] deletion in progress", ResourceModel.TYPE_NAME,
                             deleteStudioComponentRequest.studioComponentId()));
 
-                        return deleteStudioComponentResponse;
+                        return null;
                     } catch (final NimbleException e) {
                         logger.log(String.format("%s [%s] Exception during deletion", ResourceModel.TYPE_NAME,
                             deleteStudioComponentRequest.studioComponentId()));
@@ -77,44 +103,30 @@ public class DeleteHandler extends BaseHandlerStd {
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
                     final String studioComponentId = awsRequest.studioComponentId();
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
 
                     GetStudioComponentRequest getStudioComponentRequest = GetStudioComponentRequest.builder()
                         .studioId(awsRequest.studioId())
                         .studioComponentId(studioComponentId)
                         .build();
                     GetStudioComponentResponse getStudioComponentResponse;
-                    StudioComponentState state;
 
                     try {
                         getStudioComponentResponse = client.injectCredentialsAndInvokeV2(
                             getStudioComponentRequest, client.client()::getStudioComponent);
-                        state = getStudioComponentResponse.studioComponent().state();
                     } catch (final NimbleException e) {
                         logger.log(String.format("%s [%s] Exception during deletion", ResourceModel.TYPE_NAME,
                             studioComponentId));
                         throw ExceptionTranslator.translateToCfnException(e);
                     }
 
-                    if (StudioComponentState.DELETE_IN_PROGRESS.equals(state)) {
-                        logger.log(String.format("%s [%s] is in state DELETE_IN_PROGRESS, deletion in progress",
-                            ResourceModel.TYPE_NAME, studioComponentId));
-                        return false;
-                    }
-                    if (StudioComponentState.DELETED.equals(state) || StudioComponentState.CREATE_FAILED.equals(state)) {
-                        logger.log(String.format("%s [%s] is in state %s, deletion succeeded",
-                            ResourceModel.TYPE_NAME, studioComponentId, state.toString()));
-                        return true;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, deletion failed", ResourceModel.TYPE_NAME,
-                        studioComponentId, getStudioComponentResponse.studioComponent().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                        getStudioComponentResponse.studioComponent().stateAsString(),
-                        getStudioComponentResponse.studioComponent().statusCodeAsString(),
-                        getStudioComponentResponse.studioComponent().statusMessage()));
+                    return stabilization.isStabilized(studioComponentId, getStudioComponentResponse.studioComponent(),
+                        logger);
                 })
                 .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .status(OperationStatus.SUCCESS)
-                    .build()));
+                    .build())));
     }
 }
@@ -11,10 +11,14 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.ListMode;
+import software.amazon.nimblestudio.common.ListPage;
+import software.amazon.nimblestudio.common.ListPageSize;
 
 import software.amazon.awssdk.services.nimble.model.StudioComponent;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,17 +26,43 @@ import static java.util.stream.Collectors.toList;
 
 public class ListHandler extends BaseHandlerStd {
 
+    /**
+     * Deleted components and components that failed to create are left out by the service.
+     */
+    private static final List<StudioComponentState> LISTED_STATES = Arrays.stream(StudioComponentState.values())
+        .filter(state -> state != StudioComponentState.DELETED
+            && state != StudioComponentState.CREATE_FAILED
+            && state != StudioComponentState.UNKNOWN_TO_SDK_VERSION)
+        .collect(toList());
+
+    private final ListMode mode;
+    private final ListPageSize pageSize;
+
+    public ListHandler() {
+        this(ListMode.configured(), ListPageSize.shared());
+    }
+
+    ListHandler(final ListMode mode, final ListPageSize pageSize) {
+        this.mode = mode;
+        this.pageSize = pageSize;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        final String studioId = request.getDesiredResourceState().getStudioId();
+        final String pageSizeKey = ResourceModel.TYPE_NAME + "/" + mode;
         final ListStudioComponentsRequest listStudiosRequest = ListStudioComponentsRequest.builder()
+                .maxResults(pageSize.pageSize(pageSizeKey, deadline))
                 .nextToken(request.getNextToken())
-                .studioId(request.getDesiredResourceState().getStudioId())
+                .states(LISTED_STATES)
+                .studioId(studioId)
                 .build();
 
         try {
@@ -40,36 +70,19 @@ public class ListHandler extends BaseHandlerStd {
                     proxyClient.injectCredentialsAndInvokeV2(listStudiosRequest,
                     proxyClient.client()::listStudioComponents);
 
-            final List<StudioComponent> studioComponents =
-                    listStudioComponentsResponse.hasStudioComponents() ?
-                        listStudioComponentsResponse.studioComponents() :
-                        new ArrayList<>();
-
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(studioComponents.stream()
-                    .filter(studioComponent ->
+                .resourceModels(pageSize.translate(pageSizeKey, () -> ListPage.translate(
+                    listStudioComponentsResponse.studioComponents(),
+                    // Already filtered by the service, this only guards against a filter it did not apply
+                    studioComponent ->
                         !StudioComponentState.DELETED.equals(studioComponent.state()) &&
-                        !StudioComponentState.CREATE_FAILED.equals(studioComponent.state()))
-                    .map(studioComponent -> ResourceModel.builder()
-                        .configuration(Translator.toModelStudioComponentConfiguration(studioComponent.configuration()))
-                        .description(studioComponent.description())
-                        .initializationScripts(Translator.toModelStudioComponentInitializationScripts(studioComponent))
-                        .name(studioComponent.name())
-                        .scriptParameters(studioComponent.scriptParameters().stream()
-                            .map(param ->
-                                ScriptParameterKeyValue.builder()
-                                    .key(param.key())
-                                    .value(param.value())
-                                    .build())
-                            .collect(Collectors.toList()))
-                        .ec2SecurityGroupIds(studioComponent.ec2SecurityGroupIds())
-                        .studioComponentId(studioComponent.studioComponentId())
-                        .studioId(request.getDesiredResourceState().getStudioId())
-                        .subtype(studioComponent.subtype().toString())
-                        .type(studioComponent.type().toString())
-                        .tags(studioComponent.tags())
-                        .build())
-                    .collect(toList()))
+                        !StudioComponentState.CREATE_FAILED.equals(studioComponent.state()),
+                    studioComponent -> mode == ListMode.IDENTIFIERS_ONLY
+                        ? ResourceModel.builder()
+                            .studioComponentId(studioComponent.studioComponentId())
+                            .studioId(studioId)
+                            .build()
+                        : toModel(studioComponent, studioId))))
                 .nextToken(listStudioComponentsResponse.nextToken())
                 .status(OperationStatus.SUCCESS)
                 .build();
@@ -78,4 +91,26 @@ public class ListHandler extends BaseHandlerStd {
             throw ExceptionTranslator.translateToCfnException(e);
         }
     }
+
+    private static ResourceModel toModel(final StudioComponent studioComponent, final String studioId) {
+        return ResourceModel.builder()
+            .configuration(Translator.toModelStudioComponentConfiguration(studioComponent.configuration()))
+            .description(studioComponent.description())
+            .initializationScripts(Translator.toModelStudioComponentInitializationScripts(studioComponent))
+            .name(studioComponent.name())
+            .scriptParameters(studioComponent.scriptParameters().stream()
+                .map(param ->
+                    ScriptParameterKeyValue.builder()
+                        .key(param.key())
+                        .value(param.value())
+                        .build())
+                .collect(Collectors.toList()))
+            .ec2SecurityGroupIds(studioComponent.ec2SecurityGroupIds())
+            .studioComponentId(studioComponent.studioComponentId())
+            .studioId(studioId)
+            .subtype(studioComponent.subtype().toString())
+            .type(studioComponent.type().toString())
+            .tags(studioComponent.tags())
+            .build();
+    }
 }
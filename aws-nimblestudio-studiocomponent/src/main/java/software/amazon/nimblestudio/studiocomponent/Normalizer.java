@@ -0,0 +1,49 @@
+package software.amazon.nimblestudio.studiocomponent;
+
+import software.amazon.nimblestudio.common.ModelFingerprint;
+import software.amazon.nimblestudio.common.ModelNormalizer;
+
+import java.util.Collections;
+
+/**
+ * Lines up a studio component read from the service with the one declared in the template: list order and empty
+ * versus unset lists, including the computer attributes the service reports for any Active Directory configuration.
+ */
+final class Normalizer {
+
+    private Normalizer() {
+    }
+
+    static ResourceModel normalize(final ResourceModel live, final ResourceModel declared) {
+        // Without declared properties there is nothing to line up with, e.g. for a read by identifier
+        if (declared == null || isIdentifierOnly(declared)) {
+            return live;
+        }
+
+        live.setEc2SecurityGroupIds(ModelNormalizer.list(live.getEc2SecurityGroupIds(),
+            declared.getEc2SecurityGroupIds()));
+        live.setInitializationScripts(ModelNormalizer.list(live.getInitializationScripts(),
+            declared.getInitializationScripts()));
+        live.setScriptParameters(ModelNormalizer.list(live.getScriptParameters(), declared.getScriptParameters()));
+
+        if (live.getConfiguration() != null && declared.getConfiguration() != null) {
+            final ActiveDirectoryConfiguration liveActiveDirectory =
+                live.getConfiguration().getActiveDirectoryConfiguration();
+            final ActiveDirectoryConfiguration declaredActiveDirectory =
+                declared.getConfiguration().getActiveDirectoryConfiguration();
+            if (liveActiveDirectory != null && declaredActiveDirectory != null) {
+                liveActiveDirectory.setComputerAttributes(ModelNormalizer.list(
+                    liveActiveDirectory.getComputerAttributes(), declaredActiveDirectory.getComputerAttributes()));
+            }
+        }
+
+        return live;
+    }
+
+    private static boolean isIdentifierOnly(final ResourceModel model) {
+        return ModelFingerprint.same(model, ResourceModel.builder()
+            .studioId(model.getStudioId())
+            .studioComponentId(model.getStudioComponentId())
+            .build(), Collections.emptySet());
+    }
+}
@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
 
 import static java.util.stream.Collectors.toList;
 
@@ -23,6 +24,7 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
         return proxy.initiate(
@@ -95,7 +97,8 @@ public class ReadHandler extends BaseHandlerStd {
                     modelBuilder.secureInitializationRoleArn(awsResponse.studioComponent().secureInitializationRoleArn());
                 }
 
-                return ProgressEvent.defaultSuccessHandler(modelBuilder.build());
+                return ProgressEvent.defaultSuccessHandler(
+                    Normalizer.normalize(modelBuilder.build(), request.getDesiredResourceState()));
             });
     }
 }
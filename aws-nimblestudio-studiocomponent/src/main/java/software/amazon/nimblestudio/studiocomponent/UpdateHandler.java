@@ -10,68 +10,109 @@ import software.amazon.awssdk.services.nimble.model.NimbleException;
 import software.amazon.awssdk.services.nimble.model.SharedFileSystemConfiguration;
 import software.amazon.awssdk.services.nimble.model.StudioComponentConfiguration;
 import software.amazon.awssdk.services.nimble.model.StudioComponentInitializationScript;
+import software.amazon.awssdk.services.nimble.model.StudioComponent;
 import software.amazon.awssdk.services.nimble.model.StudioComponentState;
 import software.amazon.awssdk.services.nimble.model.UpdateStudioComponentRequest;
-import software.amazon.awssdk.services.nimble.model.UpdateStudioComponentResponse;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.InvocationDeadline;
+import software.amazon.nimblestudio.common.ModelFingerprint;
+import software.amazon.nimblestudio.common.PropertyDiff;
+import software.amazon.nimblestudio.common.Stabilizer;
 
 import software.amazon.awssdk.utils.StringUtils;
 
+import java.util.Collections;
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    private static final String CALL_GRAPH = "AWS-NimbleStudio-StudioComponent::Update";
+
+    /**
+     * Assigned by the service, so they don't tell whether an update changes anything.
+     */
+    private static final List<String> READ_ONLY_PROPERTIES = Collections.singletonList("StudioComponentId");
+
+    private static final Stabilizer<StudioComponent, StudioComponentState> STABILIZER = stabilizer("update")
+        .succeededOn(StudioComponentState.READY)
+        .inProgressOn(StudioComponentState.UPDATE_IN_PROGRESS)
+        .failedOn(StudioComponentState.UPDATE_FAILED)
+        .build();
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<NimbleClient> proxyClient,
+        final InvocationDeadline deadline,
         final Logger logger) {
 
+        if (isUnchanged(request)) {
+            logger.log(String.format("%s [%s] has no effective changes, skipping update", ResourceModel.TYPE_NAME,
+                request.getDesiredResourceState().getStudioComponentId()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger);
+        }
+
+        final Stabilizer.Run<StudioComponent, StudioComponentState> stabilization = STABILIZER.begin(callbackContext,
+            deadline,
+            "type=" + request.getDesiredResourceState().getType(),
+            "subtype=" + request.getDesiredResourceState().getSubtype());
+        final PropertyDiff<ResourceModel> diff = PropertyDiff.between(request.getPreviousResourceState(),
+            request.getDesiredResourceState());
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> proxy
+            .then(stabilization.deferrable(progress -> proxy
                 .initiate(
-                    "AWS-NimbleStudio-StudioComponent::Update",
+                    CALL_GRAPH,
                     proxyClient,
                     progress.getResourceModel(),
                     progress.getCallbackContext())
-                .translateToServiceRequest(model -> fromResourceModel(model, request.getClientRequestToken()))
+                .translateToServiceRequest(model -> fromResourceModel(model, diff, request.getClientRequestToken()))
+                .backoffDelay(stabilization)
                 .makeServiceCall((updateStudioComponentRequest, client) -> {
+                    callbackContext.evictRequestRecord(CALL_GRAPH);
                     final String studioComponentId = updateStudioComponentRequest.studioComponentId();
+                    if (callbackContext.getMutatedResourceId() != null) {
+                        logger.log(String.format("%s [%s] update already requested", ResourceModel.TYPE_NAME,
+                            studioComponentId));
+                        return null;
+                    }
 
                     try {
-                        final GetStudioComponentRequest getStudioComponentRequest = GetStudioComponentRequest.builder()
-                            .studioComponentId(studioComponentId)
-                            .studioId(updateStudioComponentRequest.studioId())
-                            .build();
-                        final GetStudioComponentResponse getStudioComponentResponse = client
-                            .injectCredentialsAndInvokeV2(getStudioComponentRequest, client.client()::getStudioComponent);
-                        final StudioComponentState state = getStudioComponentResponse.studioComponent().state();
-
-                        if (StudioComponentState.DELETED.equals(state) || StudioComponentState.CREATE_FAILED.equals(state)) {
-                            logger.log(String.format("%s [%s] is in state %s, update failed",
-                                ResourceModel.TYPE_NAME, studioComponentId, state.toString()));
-                            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioComponentId);
+                        if (!callbackContext.isPreCheckDone()) {
+                            final GetStudioComponentRequest getStudioComponentRequest = GetStudioComponentRequest.builder()
+                                .studioComponentId(studioComponentId)
+                                .studioId(updateStudioComponentRequest.studioId())
+                                .build();
+                            final GetStudioComponentResponse getStudioComponentResponse = client
+                                .injectCredentialsAndInvokeV2(getStudioComponentRequest, client.client()::getStudioComponent);
+                            final StudioComponentState state = getStudioComponentResponse.studioComponent().state();
+
+                            if (StudioComponentState.DELETED.equals(state) || StudioComponentState.CREATE_FAILED.equals(state)) {
+                                logger.log(String.format("%s [%s] is in state %s, update failed",
+                                    ResourceModel.TYPE_NAME, studioComponentId, state.toString()));
+                                throw new CfnNotFoundException(ResourceModel.TYPE_NAME, studioComponentId);
+                            }
+                            callbackContext.setPreCheckDone(true);
                         }
 
-                        final UpdateStudioComponentResponse updateStudioComponentResponse = client
-                            .injectCredentialsAndInvokeV2(updateStudioComponentRequest,
-                                client.client()::updateStudioComponent);
+                        client.injectCredentialsAndInvokeV2(updateStudioComponentRequest,
+                            client.client()::updateStudioComponent);
+                        callbackContext.setMutatedResourceId(studioComponentId);
 
                         logger.log(String.format("%s [%s] update in progress",
                             ResourceModel.TYPE_NAME,
                             updateStudioComponentRequest.studioComponentId()));
 
-                        return updateStudioComponentResponse;
+                        return null;
                     } catch (final NimbleException e) {
                         logger.log(String.format("%s [%s] exception during update", ResourceModel.TYPE_NAME,
                             updateStudioComponentRequest.studioComponentId()));
@@ -80,6 +121,9 @@ public class UpdateHandler extends BaseHandlerStd {
                 })
                 .stabilize((awsRequest, awsResponse, client, model, context) -> {
                     final String studioComponentId = awsRequest.studioComponentId();
+                    if (stabilization.isHoldingOff()) {
+                        return false;
+                    }
 
                     GetStudioComponentRequest getStudioComponentRequest = GetStudioComponentRequest.builder()
                         .studioId(awsRequest.studioId())
@@ -96,31 +140,19 @@ public class UpdateHandler extends BaseHandlerStd {
                         throw ExceptionTranslator.translateToCfnException(e);
                     }
 
-                    if (StudioComponentState.UPDATE_IN_PROGRESS.equals(getStudioComponentResponse.studioComponent().state())) {
-                        logger.log(String.format("%s [%s] is in state UPDATE_IN_PROGRESS, update in progress",
-                            ResourceModel.TYPE_NAME, studioComponentId));
-                        return false;
-                    }
-                    if (StudioComponentState.READY.equals(getStudioComponentResponse.studioComponent().state())) {
-                        logger.log(String.format("%s [%s] is in state READY, update succeeded",
-                            ResourceModel.TYPE_NAME, studioComponentId));
-                        return true;
-                    }
-
-                    logger.log(String.format("%s [%s] is in error state %s, update failed", ResourceModel.TYPE_NAME,
-                        studioComponentId, getStudioComponentResponse.studioComponent().state()));
-                    throw new CfnGeneralServiceException(String.format("Unexpected state %s: %s - %s",
-                        getStudioComponentResponse.studioComponent().stateAsString(),
-                        getStudioComponentResponse.studioComponent().statusCodeAsString(),
-                        getStudioComponentResponse.studioComponent().statusMessage()));
+                    return stabilization.isStabilized(studioComponentId, getStudioComponentResponse.studioComponent(),
+                        logger);
                 })
                 .progress()
-            )
-            .then((r) -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            ))
+            .then((r) -> new ReadHandler()
+                .handleRequest(proxy, request, callbackContext, proxyClient, deadline, logger));
     }
 
-    private UpdateStudioComponentRequest fromResourceModel(final ResourceModel model, final String requestClientToken) {
-        // Only StudioId and StudioComponentId are required
+    private UpdateStudioComponentRequest fromResourceModel(final ResourceModel model,
+        final PropertyDiff<ResourceModel> diff, final String requestClientToken) {
+        // Only StudioId and StudioComponentId are required, unchanged properties are left out so the service doesn't
+        // re-apply them
         final UpdateStudioComponentRequest.Builder updateStudioComponentRequestBuilder = UpdateStudioComponentRequest.builder()
             .clientToken(requestClientToken)
             .studioComponentId(model.getStudioComponentId())
@@ -178,11 +210,11 @@ public class UpdateHandler extends BaseHandlerStd {
                 );
         }
 
-        if (!StringUtils.isEmpty(model.getDescription())) {
+        if (!StringUtils.isEmpty(model.getDescription()) && diff.changed(ResourceModel::getDescription)) {
             updateStudioComponentRequestBuilder.description(model.getDescription());
         }
 
-        if (model.getInitializationScripts() != null) {
+        if (model.getInitializationScripts() != null && diff.changed(ResourceModel::getInitializationScripts)) {
             updateStudioComponentRequestBuilder.initializationScripts(
                 model.getInitializationScripts().stream()
                     .map(is -> StudioComponentInitializationScript.builder()
@@ -195,11 +227,11 @@ public class UpdateHandler extends BaseHandlerStd {
                 );
         }
 
-        if (!StringUtils.isEmpty(model.getName())) {
+        if (!StringUtils.isEmpty(model.getName()) && diff.changed(ResourceModel::getName)) {
             updateStudioComponentRequestBuilder.name(model.getName());
         }
 
-        if (model.getScriptParameters() != null) {
+        if (model.getScriptParameters() != null && diff.changed(ResourceModel::getScriptParameters)) {
             updateStudioComponentRequestBuilder.scriptParameters(
                 model.getScriptParameters().stream()
                     .map(sp -> software.amazon.awssdk.services.nimble.model.ScriptParameterKeyValue.builder()
@@ -210,28 +242,36 @@ public class UpdateHandler extends BaseHandlerStd {
             );
         }
 
-        if (model.getEc2SecurityGroupIds() != null) {
+        if (model.getEc2SecurityGroupIds() != null && diff.changed(ResourceModel::getEc2SecurityGroupIds)) {
             updateStudioComponentRequestBuilder.ec2SecurityGroupIds(model.getEc2SecurityGroupIds());
         }
 
-        if (!StringUtils.isEmpty(model.getType())) {
+        if (!StringUtils.isEmpty(model.getType()) && diff.changed(ResourceModel::getType)) {
             updateStudioComponentRequestBuilder.type(model.getType());
         }
 
-        if (!StringUtils.isEmpty(model.getSubtype())) {
+        if (!StringUtils.isEmpty(model.getSubtype()) && diff.changed(ResourceModel::getSubtype)) {
             updateStudioComponentRequestBuilder.subtype(model.getSubtype());
         }
 
-        if (!StringUtils.isEmpty(model.getRuntimeRoleArn())) {
+        if (!StringUtils.isEmpty(model.getRuntimeRoleArn()) && diff.changed(ResourceModel::getRuntimeRoleArn)) {
             updateStudioComponentRequestBuilder.runtimeRoleArn(model.getRuntimeRoleArn());
         }
 
-        if (!StringUtils.isEmpty(model.getSecureInitializationRoleArn())) {
+        if (!StringUtils.isEmpty(model.getSecureInitializationRoleArn())
+            && diff.changed(ResourceModel::getSecureInitializationRoleArn)) {
             updateStudioComponentRequestBuilder.secureInitializationRoleArn(model.getSecureInitializationRoleArn());
         }
 
-        updateStudioComponentRequestBuilder.configuration(studioComponentConfigurationBuilder.build());
+        if (diff.changed(ResourceModel::getConfiguration)) {
+            updateStudioComponentRequestBuilder.configuration(studioComponentConfigurationBuilder.build());
+        }
 
         return updateStudioComponentRequestBuilder.build();
     }
+
+    private static boolean isUnchanged(final ResourceHandlerRequest<ResourceModel> request) {
+        return request.getPreviousResourceState() != null && ModelFingerprint.same(request.getPreviousResourceState(),
+            request.getDesiredResourceState(), READ_ONLY_PROPERTIES);
+    }
 }
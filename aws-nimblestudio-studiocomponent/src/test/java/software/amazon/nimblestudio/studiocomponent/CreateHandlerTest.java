@@ -24,6 +24,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.nimblestudio.common.InvocationResponseCache;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +38,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.Mockito;
 import org.mockito.Mock;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -254,7 +258,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = generateCreateHandlerRequest();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(2))
             .injectCredentialsAndInvokeV2(Mockito.any(GetStudioComponentRequest.class), Mockito.any());
@@ -269,6 +273,24 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ReadReusesStabilizedResponse() {
+        Mockito.doReturn(Utils.generateReadStudioComponentReadyResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetStudioComponentRequest.class), any());
+        Mockito.doReturn(generateCreateStudioComponentResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(CreateStudioComponentRequest.class), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+            generateCreateHandlerRequest(), new CallbackContext(),
+            new InvocationResponseCache<>(proxyClient, BaseHandlerStd::isSettled), deadlineOf(proxy), logger);
+
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2(Mockito.any(GetStudioComponentRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void handleRequest_CreateSuccess_Stabilization() {
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioComponentRequest.class), any()))
@@ -282,7 +304,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = generateCreateHandlerRequest();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(4))
             .injectCredentialsAndInvokeV2(Mockito.any(GetStudioComponentRequest.class), Mockito.any());
@@ -308,13 +330,18 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = generateCreateHandlerBlankRequest();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        // Lists the request left out come back unset rather than empty
+        final ResourceModel expectedResponseModel = generateExpectedResponse();
+        expectedResponseModel.setScriptParameters(null);
+        expectedResponseModel.setEc2SecurityGroupIds(null);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response.getResourceModel()).isEqualTo(generateExpectedResponse());
+        assertThat(response.getResourceModel()).isEqualTo(expectedResponseModel);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
@@ -329,10 +356,28 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         final ResourceHandlerRequest<ResourceModel> request = generateCreateHandlerRequest();
         assertThrows(CfnGeneralServiceException.class, () -> {
-            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
         }, "STUDIO_COMPONENT_DELETED - Delete Complete");
     }
 
+    @Test
+    public void handleRequest_DeferredContextWithinBudget() throws Exception {
+        Mockito.doReturn(generateCreateStudioComponentResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(CreateStudioComponentRequest.class), any());
+
+        final AmazonWebServicesClientProxy shortProxy = getAmazonWebServicesClientProxy(Duration.ofSeconds(12));
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(shortProxy,
+            generateCreateHandlerRequest(), new CallbackContext(), proxyClient, deadlineOf(shortProxy), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackContext().getMutatedResourceId()).isEqualTo("studioComponentId");
+
+        final String serialized = new Serializer().serialize(response.getCallbackContext());
+        assertThat(serialized.getBytes(StandardCharsets.UTF_8).length)
+            .isLessThanOrEqualTo(CALLBACK_CONTEXT_BUDGET_BYTES);
+        assertThat(serialized).doesNotContain("script1");
+    }
+
     @ParameterizedTest
     @MethodSource("testParamsForException")
     public void handleRequest_Failed_Exception(final Class<Throwable> thrownException,
@@ -340,7 +385,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateCreateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
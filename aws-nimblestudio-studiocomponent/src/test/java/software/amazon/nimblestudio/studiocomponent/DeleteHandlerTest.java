@@ -134,7 +134,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(DeleteStudioComponentRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(3))
             .injectCredentialsAndInvokeV2(Mockito.any(GetStudioComponentRequest.class), Mockito.any());
@@ -149,13 +150,36 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_DeleteAlreadyRequested_SkipsDelete() {
+        Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioComponentRequest.class), any()))
+            .thenReturn(Utils.generateReadStudioComponentDeletedResult());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPreCheckDone(true);
+        callbackContext.setMutatedResourceId("studioComponentId");
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, generateDeleteHandlerRequest(), callbackContext, proxyClient, deadlineOf(proxy),
+                logger);
+
+        Mockito.verify(proxyClient, Mockito.times(1))
+            .injectCredentialsAndInvokeV2(Mockito.any(GetStudioComponentRequest.class), Mockito.any());
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(Mockito.any(DeleteStudioComponentRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
     @Test
     public void handleRequest_AlreadyDeleted_Exception() {
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioComponentRequest.class), any()))
             .thenReturn(Utils.generateReadStudioComponentDeletedResult());
 
         assertThrows(CfnNotFoundException.class, () -> {
-            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -170,7 +194,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
             any(DeleteStudioComponentRequest.class), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateDeleteHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -17,16 +17,20 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.nimblestudio.common.ListMode;
+import software.amazon.nimblestudio.common.ListPageSize;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.Mock;
 
 import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -54,7 +58,7 @@ public class ListHandlerTest extends AbstractTestBase {
     public void setup() {
         proxy = getAmazonWebServicesClientProxy();
         nimbleClient = mock(NimbleClient.class);
-        handler = new ListHandler();
+        handler = new ListHandler(ListMode.FULL, new ListPageSize());
         when(proxyClient.client()).thenReturn(nimbleClient);
     }
 
@@ -143,12 +147,12 @@ public class ListHandlerTest extends AbstractTestBase {
         Mockito.doReturn(listStudioComponentsResponse).when(proxyClient)
             .injectCredentialsAndInvokeV2(any(ListStudioComponentsRequest.class), any());
 
-        final ListHandler handler = new ListHandler();
+        final ListHandler handler = new ListHandler(ListMode.FULL, new ListPageSize());
 
         final ResourceHandlerRequest<ResourceModel> request = generateListHandlerRequest();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -177,16 +181,72 @@ public class ListHandlerTest extends AbstractTestBase {
         Mockito.doReturn(listStudioComponentsResponse).when(proxyClient)
             .injectCredentialsAndInvokeV2(any(ListStudioComponentsRequest.class), any());
 
-        final ListHandler handler = new ListHandler();
+        final ListHandler handler = new ListHandler(ListMode.FULL, new ListPageSize());
 
         final ResourceHandlerRequest<ResourceModel> request = generateListHandlerRequest();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(response.getResourceModels().size()).isEqualTo(0);
     }
 
+    @Test
+    public void handleRequest_IdentifiersOnly() {
+        ListStudioComponentsResponse listStudioComponentsResponse = ListStudioComponentsResponse.builder()
+            .studioComponents(Utils.getStudioComponents())
+            .nextToken("1231j091j23")
+            .build();
+        Mockito.doReturn(listStudioComponentsResponse).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListStudioComponentsRequest.class), any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().studioId("studioId").build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            new ListHandler(ListMode.IDENTIFIERS_ONLY, new ListPageSize())
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("1231j091j23");
+        assertThat(response.getResourceModels()).isEqualTo(Arrays.asList(
+            ResourceModel.builder().studioComponentId("studioComponentId1").studioId("studioId").build(),
+            ResourceModel.builder().studioComponentId("studioComponentId2").studioId("studioId").build()));
+    }
+
+    @Test
+    public void handleRequest_FiltersStatesOnTheService() {
+        Mockito.doReturn(ListStudioComponentsResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListStudioComponentsRequest.class), any());
+
+        handler.handleRequest(proxy, generateListHandlerRequest(), new CallbackContext(), proxyClient,
+            deadlineOf(proxy), logger);
+
+        final ArgumentCaptor<ListStudioComponentsRequest> argumentCaptor =
+            ArgumentCaptor.forClass(ListStudioComponentsRequest.class);
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(argumentCaptor.capture(), any());
+        assertThat(argumentCaptor.getValue().maxResults()).isEqualTo(100);
+        assertThat(argumentCaptor.getValue().states())
+            .contains(StudioComponentState.READY, StudioComponentState.UPDATE_IN_PROGRESS)
+            .doesNotContain(StudioComponentState.DELETED, StudioComponentState.CREATE_FAILED);
+    }
+
+    @Test
+    public void handleRequest_NearDeadline_AsksForSmallPages() {
+        Mockito.doReturn(ListStudioComponentsResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListStudioComponentsRequest.class), any());
+
+        final AmazonWebServicesClientProxy shortProxy = getAmazonWebServicesClientProxy(Duration.ofSeconds(12));
+        handler.handleRequest(shortProxy, generateListHandlerRequest(), new CallbackContext(), proxyClient,
+            deadlineOf(shortProxy), logger);
+
+        final ArgumentCaptor<ListStudioComponentsRequest> argumentCaptor =
+            ArgumentCaptor.forClass(ListStudioComponentsRequest.class);
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(argumentCaptor.capture(), any());
+        assertThat(argumentCaptor.getValue().maxResults()).isEqualTo(10);
+    }
+
     @ParameterizedTest
     @MethodSource("testParamsForException")
     public void handleRequest_Failed_Exception(final Class<Throwable> thrownException,
@@ -194,7 +254,8 @@ public class ListHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateListHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateListHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 }
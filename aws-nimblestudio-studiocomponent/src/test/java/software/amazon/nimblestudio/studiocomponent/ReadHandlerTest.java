@@ -38,6 +38,7 @@ import org.mockito.Mock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -164,6 +165,49 @@ public class ReadHandlerTest extends AbstractTestBase {
             .build();
     }
 
+    @Test
+    public void handleRequest_NormalizesToDeclaredModel() {
+        Mockito.doReturn(generateReadStudioComponentResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetStudioComponentRequest.class), any());
+
+        final List<software.amazon.nimblestudio.studiocomponent.StudioComponentInitializationScript> scripts =
+            Arrays.asList(
+                software.amazon.nimblestudio.studiocomponent.StudioComponentInitializationScript.builder()
+                    .script("script2")
+                    .runContext(StudioComponentInitializationScriptRunContext.USER_INITIALIZATION.toString())
+                    .platform(LaunchProfilePlatform.LINUX.toString())
+                    .launchProfileProtocolVersion("2021-03-31")
+                    .build(),
+                software.amazon.nimblestudio.studiocomponent.StudioComponentInitializationScript.builder()
+                    .script("script1")
+                    .runContext(StudioComponentInitializationScriptRunContext.SYSTEM_INITIALIZATION.toString())
+                    .platform(LaunchProfilePlatform.WINDOWS.toString())
+                    .launchProfileProtocolVersion("2021-03-31")
+                    .build());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .studioId("id")
+                .studioComponentId("studioComponentId")
+                .configuration(software.amazon.nimblestudio.studiocomponent.StudioComponentConfiguration.builder()
+                    .activeDirectoryConfiguration(
+                        software.amazon.nimblestudio.studiocomponent.ActiveDirectoryConfiguration.builder().build())
+                    .build())
+                .initializationScripts(scripts)
+                .ec2SecurityGroupIds(new ArrayList<>())
+                .build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        final ResourceModel model = response.getResourceModel();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(model.getInitializationScripts()).isEqualTo(scripts);
+        assertThat(model.getScriptParameters()).isNull();
+        assertThat(model.getEc2SecurityGroupIds()).isEmpty();
+        assertThat(model.getConfiguration().getActiveDirectoryConfiguration().getComputerAttributes()).isNull();
+    }
+
     @Test
     public void handleRequest_SimpleSuccess() {
         Mockito.doReturn(generateReadStudioComponentResult()).when(proxyClient)
@@ -172,7 +216,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = generateReadHandlerRequest();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -190,7 +234,8 @@ public class ReadHandlerTest extends AbstractTestBase {
             .thenReturn(Utils.generateReadStudioComponentDeletedResult());
 
         assertThrows(CfnNotFoundException.class, () -> {
-            handler.handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -201,7 +246,8 @@ public class ReadHandlerTest extends AbstractTestBase {
         Mockito.doThrow(thrownException).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateReadHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
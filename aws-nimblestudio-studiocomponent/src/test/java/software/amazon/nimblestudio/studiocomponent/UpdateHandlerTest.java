@@ -32,12 +32,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Test;
 
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.Mock;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -231,6 +233,76 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .build();
     }
 
+    @Test
+    public void handleRequest_NoEffectiveChange_SkipsUpdate() {
+        Mockito.doReturn(Utils.generateReadStudioComponentReadyResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetStudioComponentRequest.class), any());
+
+        final ResourceModel previous = generateUpdateHandlerRequest().getDesiredResourceState();
+        previous.setInitializationScripts(Arrays.asList(
+            previous.getInitializationScripts().get(1), previous.getInitializationScripts().get(0)));
+        previous.setScriptParameters(null);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(previous)
+            .desiredResourceState(generateUpdateHandlerRequest().getDesiredResourceState())
+            .clientRequestToken("clientToken")
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        Mockito.verify(proxyClient, Mockito.never())
+            .injectCredentialsAndInvokeV2(Mockito.any(UpdateStudioComponentRequest.class), Mockito.any());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNotNull();
+    }
+
+    @Test
+    public void handleRequest_SendsChangedPropertiesOnly() {
+        Mockito.doReturn(Utils.generateReadStudioComponentReadyResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetStudioComponentRequest.class), any());
+        Mockito.doReturn(generateUpdateStudioComponentResult()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateStudioComponentRequest.class), any());
+
+        final ResourceModel desired = generateUpdateHandlerRequest().getDesiredResourceState();
+        desired.setScriptParameters(Collections.singletonList(ScriptParameterKeyValue.builder()
+            .key("key")
+            .value("value")
+            .build()));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(generateUpdateHandlerRequest().getDesiredResourceState())
+            .desiredResourceState(desired)
+            .clientRequestToken("clientToken")
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        // Pre-check, update, stabilization and read calls, the update request is the second one
+        final ArgumentCaptor<UpdateStudioComponentRequest> argumentCaptor =
+            ArgumentCaptor.forClass(UpdateStudioComponentRequest.class);
+        Mockito.verify(proxyClient, Mockito.times(4))
+            .injectCredentialsAndInvokeV2(argumentCaptor.capture(), Mockito.any());
+        final UpdateStudioComponentRequest updateStudioComponentRequest = argumentCaptor.getAllValues().get(1);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updateStudioComponentRequest.studioComponentId()).isEqualTo("studioComponentid");
+        assertThat(updateStudioComponentRequest.scriptParameters()).hasSize(1);
+        assertThat(updateStudioComponentRequest.configuration()).isNull();
+        assertThat(updateStudioComponentRequest.description()).isNull();
+        assertThat(updateStudioComponentRequest.name()).isNull();
+        assertThat(updateStudioComponentRequest.hasInitializationScripts()).isFalse();
+        assertThat(updateStudioComponentRequest.hasEc2SecurityGroupIds()).isFalse();
+        assertThat(updateStudioComponentRequest.type()).isNull();
+        assertThat(updateStudioComponentRequest.subtype()).isNull();
+        assertThat(updateStudioComponentRequest.runtimeRoleArn()).isNull();
+        assertThat(updateStudioComponentRequest.secureInitializationRoleArn()).isNull();
+    }
+
     @Test
     public void handleRequest_UpdateSuccess_Stabilization() {
         Mockito.when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioComponentRequest.class), any()))
@@ -242,7 +314,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .injectCredentialsAndInvokeV2(any(UpdateStudioComponentRequest.class), any());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
 
         Mockito.verify(proxyClient, Mockito.times(4))
             .injectCredentialsAndInvokeV2(Mockito.any(GetStudioComponentRequest.class), Mockito.any());
@@ -270,13 +343,18 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceHandlerRequest<ResourceModel> request = generateUpdateHandlerBlankRequest();
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        // Lists the request left out come back unset rather than empty
+        final ResourceModel expectedResponseModel = generateExpectedResponse();
+        expectedResponseModel.setScriptParameters(null);
+        expectedResponseModel.setEc2SecurityGroupIds(null);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response.getResourceModel()).isEqualTo(generateExpectedResponse());
+        assertThat(response.getResourceModel()).isEqualTo(expectedResponseModel);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
@@ -295,13 +373,18 @@ public class UpdateHandlerTest extends AbstractTestBase {
             software.amazon.nimblestudio.studiocomponent.StudioComponentConfiguration.builder().build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler
-            .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+            .handleRequest(proxy, request, new CallbackContext(), proxyClient, deadlineOf(proxy), logger);
+
+        // Lists the request left out come back unset rather than empty
+        final ResourceModel expectedResponseModel = generateExpectedResponse();
+        expectedResponseModel.setScriptParameters(null);
+        expectedResponseModel.setEc2SecurityGroupIds(null);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response.getResourceModel()).isEqualTo(generateExpectedResponse());
+        assertThat(response.getResourceModel()).isEqualTo(expectedResponseModel);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
@@ -313,7 +396,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .thenReturn(Utils.generateReadStudioComponentDeletedResult());
 
         assertThrows(CfnNotFoundException.class, () -> {
-            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -328,7 +412,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
             any(UpdateStudioComponentRequest.class), any());
 
         assertThrows(expectedException, () -> {
-            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient, logger);
+            handler.handleRequest(proxy, generateUpdateHandlerRequest(), new CallbackContext(), proxyClient,
+                deadlineOf(proxy), logger);
         });
     }
 
@@ -0,0 +1,112 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Polling delay that doubles on every attempt up to a cap, with equal jitter, and starts again from the initial delay
+ * whenever the observed resource state changes. Polling can be held off until a point in time, after which the
+ * schedule also starts again from the initial delay. Returns {@link Duration#ZERO} once the un-jittered schedule
+ * exceeds the timeout, which makes the caller give up waiting.
+ */
+public final class AdaptiveDelay implements Delay {
+
+    private static final int MAX_EXPONENT = 30;
+
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Duration timeout;
+    private final DoubleSupplier random;
+    private final Clock clock;
+
+    private Object lastState;
+    private boolean stateChanged;
+    private int resetAttempt;
+    private Instant holdOffUntil;
+
+    public AdaptiveDelay(final Duration initialDelay, final Duration maxDelay, final Duration timeout) {
+        this(initialDelay, maxDelay, timeout, Clock.systemUTC());
+    }
+
+    AdaptiveDelay(final Duration initialDelay, final Duration maxDelay, final Duration timeout, final Clock clock) {
+        this(initialDelay, maxDelay, timeout, () -> ThreadLocalRandom.current().nextDouble(), clock);
+    }
+
+    AdaptiveDelay(final Duration initialDelay, final Duration maxDelay, final Duration timeout,
+                  final DoubleSupplier random, final Clock clock) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+        this.random = random;
+        this.clock = clock;
+    }
+
+    /**
+     * Records the latest observed state. A change from the previously observed state resets the backoff.
+     */
+    public void observe(final Object state) {
+        if (lastState != null && !Objects.equals(lastState, state)) {
+            stateChanged = true;
+        }
+        lastState = state;
+    }
+
+    /**
+     * Suppresses polling until the given instant.
+     */
+    public void holdOffUntil(final Instant until) {
+        this.holdOffUntil = until;
+    }
+
+    public boolean isHoldingOff() {
+        return !remainingHoldOff().isZero();
+    }
+
+    /**
+     * @return time left until polling resumes, zero if polling is not held off
+     */
+    public Duration remainingHoldOff() {
+        final Instant now = clock.instant();
+        return holdOffUntil != null && now.isBefore(holdOffUntil) ? Duration.between(now, holdOffUntil) : Duration.ZERO;
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (scheduledWait(attempt) >= timeout.toMillis()) {
+            return Duration.ZERO;
+        }
+        final Duration remaining = remainingHoldOff();
+        if (!remaining.isZero()) {
+            stateChanged = true;
+            // Waits are taken in whole seconds, so round up rather than spin on a sub-second remainder
+            return Duration.ofSeconds((remaining.toMillis() + 999) / 1000);
+        }
+        if (stateChanged) {
+            resetAttempt = attempt;
+            stateChanged = false;
+        }
+
+        final long ceiling = ceiling(attempt - resetAttempt);
+        final long floor = ceiling / 2;
+        return Duration.ofMillis(floor + (long) (random.getAsDouble() * (ceiling - floor)));
+    }
+
+    private long ceiling(final int step) {
+        final int exponent = Math.min(Math.max(step, 0), MAX_EXPONENT);
+        return Math.min(maxDelay.toMillis(), initialDelay.toMillis() << exponent);
+    }
+
+    private long scheduledWait(final int attempt) {
+        long total = 0;
+        for (int step = 0; step < attempt; step++) {
+            total += ceiling(step);
+        }
+        return total;
+    }
+}
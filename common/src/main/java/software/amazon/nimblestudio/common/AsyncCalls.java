@@ -0,0 +1,71 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.nimble.NimbleAsyncClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Lets a handler run independent service calls at the same time. Calls are made on the asynchronous client but still
+ * go through the invocation's proxy client, so credentials are injected and its decorators apply as for any other
+ * call.
+ */
+public final class AsyncCalls {
+
+    private AsyncCalls() {
+    }
+
+    public static <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> start(
+        final ProxyClient<?> proxyClient,
+        final RequestT request,
+        final BiFunction<NimbleAsyncClient, RequestT, CompletableFuture<ResponseT>> call) {
+
+        return start(proxyClient, request, call, ClientBuilder::getAsyncClient);
+    }
+
+    static <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> start(
+        final ProxyClient<?> proxyClient,
+        final RequestT request,
+        final BiFunction<NimbleAsyncClient, RequestT, CompletableFuture<ResponseT>> call,
+        final Supplier<NimbleAsyncClient> asyncClient) {
+
+        return proxyClient.injectCredentialsAndInvokeV2Async(request, r -> call.apply(asyncClient.get(), r));
+    }
+
+    /**
+     * Waits for all calls and returns their results in the same order. Once every call is done, the failure of the
+     * first call that failed, if any, is rethrown as the call threw it.
+     */
+    public static <T> List<T> joinAll(final List<CompletableFuture<T>> calls) {
+        final List<T> results = new ArrayList<>(calls.size());
+        RuntimeException failure = null;
+        for (final CompletableFuture<T> call : calls) {
+            try {
+                results.add(call.join());
+            } catch (final CompletionException e) {
+                if (failure == null) {
+                    failure = unwrap(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private static RuntimeException unwrap(final CompletionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : e;
+    }
+}
@@ -0,0 +1,26 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.cloudformation.proxy.Credentials;
+
+import java.util.Optional;
+
+/**
+ * Tells apart the callers of invocations for the same account. Their credentials may be allowed different answers,
+ * so whatever one invocation read is only handed to invocations of the same caller. Only a digest of the access key
+ * is kept.
+ */
+public final class CallerIdentity {
+
+    private CallerIdentity() {
+    }
+
+    /**
+     * @return the account and a digest of the access key of the credentials, empty when there are none
+     */
+    public static Optional<String> of(final String awsAccountId, final Credentials credentials) {
+        if (credentials == null || credentials.getAccessKeyId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(awsAccountId + "/" + ModelFingerprint.sha256(credentials.getAccessKeyId()));
+    }
+}
@@ -0,0 +1,17 @@
+package software.amazon.nimblestudio.common;
+
+/**
+ * Callback context state that records which phases of a mutating handler are done, so that a handler invoked again
+ * for the same request resumes after the last completed phase instead of starting over. Since these markers are
+ * enough to resume, handlers keep neither the mutation request nor its response in the call graph, and the context
+ * serialized with every progress event stays small.
+ */
+public interface CheckpointContext extends StabilizationContext {
+
+    /**
+     * @return identifier of the resource the mutation was accepted for, or null if it was not requested yet
+     */
+    String getMutatedResourceId();
+
+    void setMutatedResourceId(String mutatedResourceId);
+}
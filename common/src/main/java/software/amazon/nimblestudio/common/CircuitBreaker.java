@@ -0,0 +1,122 @@
+package software.amazon.nimblestudio.common;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuits over service calls, one per key, shared by every invocation in the container. A circuit opens after
+ * {@value #FAILURE_THRESHOLD} failures in a row and rejects calls for {@link #OPEN_DURATION}; it then lets a single
+ * trial call through and closes again only if that call succeeds.
+ */
+public final class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    static final int FAILURE_THRESHOLD = 5;
+    static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private static final CircuitBreaker SHARED = new CircuitBreaker(System::nanoTime);
+
+    private final ConcurrentMap<String, Circuit> circuits = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    CircuitBreaker(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    public static CircuitBreaker shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns whether a call may be made. A call let through while the circuit is half-open is its trial call, and
+     * its outcome must be reported.
+     */
+    boolean tryAcquire(final String key) {
+        return circuit(key).tryAcquire();
+    }
+
+    /**
+     * Returns whether calls are currently rejected, without claiming the trial call of a half-open circuit.
+     */
+    boolean isOpen(final String key) {
+        return circuit(key).isOpen();
+    }
+
+    void onSuccess(final String key) {
+        circuit(key).onSuccess();
+    }
+
+    void onFailure(final String key) {
+        circuit(key).onFailure();
+    }
+
+    /**
+     * Reports a call whose outcome says nothing about the service, freeing the trial of a half-open circuit.
+     */
+    void release(final String key) {
+        circuit(key).release();
+    }
+
+    State state(final String key) {
+        return circuit(key).state;
+    }
+
+    private Circuit circuit(final String key) {
+        return circuits.computeIfAbsent(key, k -> new Circuit());
+    }
+
+    private final class Circuit {
+        private State state = State.CLOSED;
+        private int failures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        synchronized boolean tryAcquire() {
+            if (isOpen()) {
+                return false;
+            }
+            if (state == State.OPEN) {
+                state = State.HALF_OPEN;
+                trialInFlight = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+            }
+            return true;
+        }
+
+        synchronized boolean isOpen() {
+            return state == State.OPEN && nanoTime.getAsLong() - openedAt < OPEN_DURATION.toNanos();
+        }
+
+        synchronized void onSuccess() {
+            state = State.CLOSED;
+            failures = 0;
+            trialInFlight = false;
+        }
+
+        synchronized void release() {
+            trialInFlight = false;
+        }
+
+        synchronized void onFailure() {
+            trialInFlight = false;
+            failures++;
+            if (state == State.HALF_OPEN || failures >= FAILURE_THRESHOLD) {
+                state = State.OPEN;
+                openedAt = nanoTime.getAsLong();
+                failures = 0;
+            }
+        }
+    }
+}
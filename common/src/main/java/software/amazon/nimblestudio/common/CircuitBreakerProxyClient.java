@@ -0,0 +1,141 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.nimble.model.InternalServerErrorException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Fails calls fast while the {@link CircuitBreaker} circuit for their operation, in the account and region of the
+ * invocation, is open instead of spending the invocation on an endpoint that keeps failing. Internal server errors,
+ * timeouts and connection errors count as failures; any other answer from the service, including an error, shows
+ * that it is reachable. Timeouts are only counted while the {@link InvocationDeadline} leaves calls their configured
+ * timeouts, as a call cut short to end before the deadline times out without the service being slow. A rejected call
+ * surfaces as {@link CfnServiceInternalErrorException}, which CloudFormation retries.
+ */
+public final class CircuitBreakerProxyClient<ClientT> extends ForwardingProxyClient<ClientT> {
+
+    private final CircuitBreaker circuitBreaker;
+    private final String scope;
+    private final InvocationDeadline deadline;
+
+    public CircuitBreakerProxyClient(final ProxyClient<ClientT> delegate, final CircuitBreaker circuitBreaker,
+                                     final String awsAccountId, final String region,
+                                     final InvocationDeadline deadline) {
+        super(delegate);
+        this.circuitBreaker = circuitBreaker;
+        this.scope = RateLimiter.scope(awsAccountId, region);
+        this.deadline = deadline;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        final String key = acquire(request);
+        final boolean shortened = deadline.shortensTimeouts();
+        try {
+            final ResponseT response = super.injectCredentialsAndInvokeV2(request, requestFunction);
+            circuitBreaker.onSuccess(key);
+            return response;
+        } catch (final RuntimeException e) {
+            record(key, e, shortened);
+            throw e;
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+
+        final String key = acquire(request);
+        final boolean shortened = deadline.shortensTimeouts();
+        final CompletableFuture<ResponseT> future;
+        try {
+            future = super.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        } catch (final RuntimeException e) {
+            record(key, e, shortened);
+            throw e;
+        }
+        return future.whenComplete((response, e) -> {
+            if (e == null) {
+                circuitBreaker.onSuccess(key);
+            } else {
+                record(key, e instanceof CompletionException ? e.getCause() : e, shortened);
+            }
+        });
+    }
+
+    /**
+     * Pages are fetched lazily, so their outcome is never seen here; such calls are only rejected while the circuit
+     * is open and never serve as its trial call.
+     */
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+    IterableT injectCredentialsAndInvokeIterableV2(
+        final RequestT request,
+        final Function<RequestT, IterableT> requestFunction) {
+
+        final String operation = operation(request);
+        if (circuitBreaker.isOpen(key(operation))) {
+            throw rejected(operation);
+        }
+        return super.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    static boolean isFailure(final Throwable e) {
+        return e instanceof InternalServerErrorException
+            || (e instanceof AwsServiceException && ((AwsServiceException) e).statusCode() >= 500)
+            || isTimeout(e)
+            || (e instanceof SdkClientException && e.getCause() instanceof IOException);
+    }
+
+    static boolean isTimeout(final Throwable e) {
+        return e instanceof ApiCallTimeoutException || e instanceof ApiCallAttemptTimeoutException;
+    }
+
+    private String acquire(final AwsRequest request) {
+        final String operation = operation(request);
+        final String key = key(operation);
+        if (!circuitBreaker.tryAcquire(key)) {
+            throw rejected(operation);
+        }
+        return key;
+    }
+
+    private void record(final String key, final Throwable e, final boolean shortened) {
+        if (shortened && isTimeout(e)) {
+            circuitBreaker.release(key);
+        } else if (isFailure(e)) {
+            circuitBreaker.onFailure(key);
+        } else {
+            circuitBreaker.onSuccess(key);
+        }
+    }
+
+    private String key(final String operation) {
+        return scope + "/" + operation;
+    }
+
+    private CfnServiceInternalErrorException rejected(final String operation) {
+        return new CfnServiceInternalErrorException(String.format("%s (failing fast in %s)", operation, scope));
+    }
+
+    private static String operation(final AwsRequest request) {
+        return request.getClass().getSimpleName().replaceFirst("Request$", "");
+    }
+}
@@ -1,8 +1,9 @@
 package software.amazon.nimblestudio.common;
 
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
-import software.amazon.awssdk.core.retry.RetryPolicy;
-import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.nimble.NimbleAsyncClient;
 import software.amazon.awssdk.services.nimble.NimbleClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
@@ -10,19 +11,52 @@ public class ClientBuilder {
     private ClientBuilder() {
     }
 
-    private static final RetryPolicy RETRY_POLICY = RetryPolicy
+    private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION = ClientOverrideConfiguration
         .builder()
-        .numRetries(6)
-        .retryCondition(RetryCondition.defaultRetryCondition())
+        .retryPolicy(RetryPolicies.retryPolicy())
         .build();
 
+    private static final ClientHolder<NimbleClient> CLIENT_HOLDER = new ClientHolder<>(ClientBuilder::buildClient);
+
+    private static final ClientHolder<NimbleAsyncClient> ASYNC_CLIENT_HOLDER =
+        new ClientHolder<>(ClientBuilder::buildAsyncClient);
+
+    /**
+     * Returns the warm client for this container, building it on first use. Connections are pooled by the shared
+     * {@link LambdaWrapper#HTTP_CLIENT}, so the client itself is the only thing that needs to be kept around.
+     */
     public static NimbleClient getClient() {
+        return CLIENT_HOLDER.get(OVERRIDE_CONFIGURATION);
+    }
+
+    /**
+     * Returns the warm asynchronous client for this container, building it on first use. Its calls run on a shared
+     * non-blocking HTTP client, so any number of them can be in flight without holding a thread each.
+     */
+    public static NimbleAsyncClient getAsyncClient() {
+        return ASYNC_CLIENT_HOLDER.get(OVERRIDE_CONFIGURATION);
+    }
+
+    public static String describeClientUsage() {
+        return CLIENT_HOLDER.describeUsage();
+    }
 
+    static NimbleClient buildClient(final ClientOverrideConfiguration overrideConfiguration) {
         return NimbleClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT)
-            .overrideConfiguration(ClientOverrideConfiguration
-                .builder()
-                .retryPolicy(RETRY_POLICY)
-                .build())
+            .overrideConfiguration(overrideConfiguration)
+            .build();
+    }
+
+    static NimbleAsyncClient buildAsyncClient(final ClientOverrideConfiguration overrideConfiguration) {
+        return NimbleAsyncClient.builder().httpClient(AsyncHttpClient.INSTANCE)
+            .overrideConfiguration(overrideConfiguration)
             .build();
     }
+
+    /**
+     * The event loop threads are only started once an asynchronous client is first needed.
+     */
+    private static final class AsyncHttpClient {
+        private static final SdkAsyncHttpClient INSTANCE = NettyNioAsyncHttpClient.builder().build();
+    }
 }
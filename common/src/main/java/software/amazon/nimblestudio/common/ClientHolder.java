@@ -0,0 +1,86 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lazily builds a client and keeps it warm for the lifetime of the container. The client is only rebuilt when the
+ * region or the override configuration it was built with changes. The previous client is not closed, as calls of
+ * other invocations may still be using it; it is left to be garbage collected once they are done.
+ */
+public final class ClientHolder<ClientT extends SdkClient> {
+
+    private final Supplier<String> regionSupplier;
+    private final Function<ClientOverrideConfiguration, ClientT> clientFactory;
+    private final AtomicLong reuseCount = new AtomicLong();
+    private final AtomicLong buildCount = new AtomicLong();
+
+    private volatile Entry<ClientT> current;
+
+    public ClientHolder(final Function<ClientOverrideConfiguration, ClientT> clientFactory) {
+        this(() -> SdkSystemSetting.AWS_REGION.getStringValue().orElse(null), clientFactory);
+    }
+
+    ClientHolder(final Supplier<String> regionSupplier,
+                 final Function<ClientOverrideConfiguration, ClientT> clientFactory) {
+        this.regionSupplier = regionSupplier;
+        this.clientFactory = clientFactory;
+    }
+
+    public ClientT get(final ClientOverrideConfiguration configuration) {
+        final String region = regionSupplier.get();
+
+        final Entry<ClientT> warm = current;
+        if (warm != null && warm.isBuiltFor(region, configuration)) {
+            reuseCount.incrementAndGet();
+            return warm.client;
+        }
+
+        synchronized (this) {
+            final Entry<ClientT> previous = current;
+            if (previous != null && previous.isBuiltFor(region, configuration)) {
+                reuseCount.incrementAndGet();
+                return previous.client;
+            }
+
+            final ClientT client = clientFactory.apply(configuration);
+            current = new Entry<>(region, configuration, client);
+            buildCount.incrementAndGet();
+            return client;
+        }
+    }
+
+    public long getReuseCount() {
+        return reuseCount.get();
+    }
+
+    public long getBuildCount() {
+        return buildCount.get();
+    }
+
+    public String describeUsage() {
+        return String.format("built %d time(s), reused %d time(s)", getBuildCount(), getReuseCount());
+    }
+
+    private static final class Entry<ClientT> {
+        private final String region;
+        private final ClientOverrideConfiguration configuration;
+        private final ClientT client;
+
+        private Entry(final String region, final ClientOverrideConfiguration configuration, final ClientT client) {
+            this.region = region;
+            this.configuration = configuration;
+            this.client = client;
+        }
+
+        private boolean isBuiltFor(final String region, final ClientOverrideConfiguration configuration) {
+            return Objects.equals(this.region, region) && Objects.equals(this.configuration, configuration);
+        }
+    }
+}
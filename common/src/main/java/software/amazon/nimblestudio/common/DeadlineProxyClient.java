@@ -0,0 +1,56 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounds every service call by the invocation deadline, see {@link InvocationDeadline#bound(AwsRequest)}. The timeouts
+ * are set inside the request function because the wrapped proxy client replaces the override configuration of the
+ * request when it injects credentials.
+ */
+public final class DeadlineProxyClient<ClientT> extends ForwardingProxyClient<ClientT> {
+
+    private final InvocationDeadline deadline;
+
+    public DeadlineProxyClient(final ProxyClient<ClientT> delegate, final InvocationDeadline deadline) {
+        super(delegate);
+        this.deadline = deadline;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        return super.injectCredentialsAndInvokeV2(request, bounded(requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+
+        return super.injectCredentialsAndInvokeV2Async(request, bounded(requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+    IterableT injectCredentialsAndInvokeIterableV2(
+        final RequestT request,
+        final Function<RequestT, IterableT> requestFunction) {
+
+        return super.injectCredentialsAndInvokeIterableV2(request, bounded(requestFunction));
+    }
+
+    private <RequestT extends AwsRequest, ResultT> Function<RequestT, ResultT> bounded(
+        final Function<RequestT, ResultT> requestFunction) {
+
+        return request -> requestFunction.apply(deadline.bound(request));
+    }
+}
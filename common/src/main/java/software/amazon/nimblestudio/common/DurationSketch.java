@@ -0,0 +1,51 @@
+package software.amazon.nimblestudio.common;
+
+import java.time.Duration;
+
+/**
+ * Fixed-size histogram of durations on a logarithmic scale. Each bucket is 10% wider than the previous one, starting
+ * at one second, so quantiles are accurate to within 10% while the whole sketch stays a single array of counters.
+ */
+final class DurationSketch {
+
+    private static final double GROWTH = 1.1;
+    private static final int BUCKETS = 128;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+
+    synchronized void record(final Duration duration) {
+        counts[bucketOf(duration)]++;
+        total++;
+    }
+
+    synchronized long count() {
+        return total;
+    }
+
+    /**
+     * @return the lower bound of the bucket holding the given quantile, or {@link Duration#ZERO} if nothing was
+     * recorded
+     */
+    synchronized Duration quantile(final double quantile) {
+        final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return lowerBound(bucket);
+            }
+        }
+        return Duration.ZERO;
+    }
+
+    static int bucketOf(final Duration duration) {
+        final double seconds = Math.max(duration.toMillis(), 1000L) / 1000.0;
+        final int bucket = (int) Math.floor(Math.log(seconds) / Math.log(GROWTH));
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    static Duration lowerBound(final int bucket) {
+        return Duration.ofMillis((long) (Math.pow(GROWTH, bucket) * 1000));
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Base class for {@link ProxyClient} decorators. Every call is forwarded to the wrapped proxy client unless a subclass
+ * overrides it.
+ */
+public abstract class ForwardingProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+    private final ProxyClient<ClientT> delegate;
+
+    protected ForwardingProxyClient(final ProxyClient<ClientT> delegate) {
+        this.delegate = delegate;
+    }
+
+    protected ProxyClient<ClientT> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+    IterableT injectCredentialsAndInvokeIterableV2(
+        final RequestT request,
+        final Function<RequestT, IterableT> requestFunction) {
+
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(
+        final RequestT request,
+        final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(
+        final RequestT request,
+        final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+}
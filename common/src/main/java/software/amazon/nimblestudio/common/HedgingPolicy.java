@@ -0,0 +1,80 @@
+package software.amazon.nimblestudio.common;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Decides when a read has been outstanding long enough to send a duplicate. The latest latencies are kept per
+ * operation and a call is hedged once it takes longer than their 95th percentile. Hedges are budgeted across the
+ * container: every call earns a tenth of a hedge, and a hedge is spent on a call before it is made, whether or not it
+ * turns out slow, so no more than about one call in ten is ever raced.
+ */
+public final class HedgingPolicy {
+
+    static final int WINDOW = 100;
+    static final int MIN_SAMPLES = 20;
+    static final double QUANTILE = 0.95;
+    static final int CALLS_PER_HEDGE = 10;
+    static final int MAX_HEDGES = 10;
+
+    private static final HedgingPolicy SHARED = new HedgingPolicy();
+
+    private final ConcurrentMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private int credits;
+
+    HedgingPolicy() {
+    }
+
+    public static HedgingPolicy shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return how long to wait for a call before hedging it, or empty until enough calls were seen for the operation
+     */
+    Optional<Duration> hedgeAfter(final String operation) {
+        final LatencyWindow window = windows.get(operation);
+        return window == null ? Optional.empty() : window.quantile(QUANTILE);
+    }
+
+    void record(final String operation, final Duration latency) {
+        windows.computeIfAbsent(operation, o -> new LatencyWindow()).record(latency);
+    }
+
+    synchronized void onCall() {
+        credits = Math.min(MAX_HEDGES * CALLS_PER_HEDGE, credits + 1);
+    }
+
+    synchronized boolean tryHedge() {
+        if (credits < CALLS_PER_HEDGE) {
+            return false;
+        }
+        credits -= CALLS_PER_HEDGE;
+        return true;
+    }
+
+    private static final class LatencyWindow {
+        private final long[] nanos = new long[WINDOW];
+        private int size;
+        private int next;
+
+        synchronized void record(final Duration latency) {
+            nanos[next] = latency.toNanos();
+            next = (next + 1) % WINDOW;
+            size = Math.min(size + 1, WINDOW);
+        }
+
+        synchronized Optional<Duration> quantile(final double quantile) {
+            if (size < MIN_SAMPLES) {
+                return Optional.empty();
+            }
+            final long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            final int rank = Math.max(1, (int) Math.ceil(quantile * size));
+            return Optional.of(Duration.ofNanos(sorted[rank - 1]));
+        }
+    }
+}
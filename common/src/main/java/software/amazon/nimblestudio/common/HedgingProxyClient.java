@@ -0,0 +1,122 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second, identical Get when the first has not answered within the time the {@link HedgingPolicy} allows, and
+ * returns whichever answer arrives first. Gets are idempotent, so the duplicate is harmless; the slower of the two
+ * calls is left to finish in the background. Racing needs the first call off the calling thread, so only the Gets the
+ * policy has a hedge to spend on are made on a pooled thread; other calls, and Gets while the policy has no latencies
+ * to go by, are made directly on the calling thread. Both calls go through the rate limiter and circuit breaker
+ * within, so a duplicate is paced and counted like any other call.
+ */
+public final class HedgingProxyClient<ClientT> extends ForwardingProxyClient<ClientT> {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "nimble-hedged-get");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final HedgingPolicy policy;
+    private final Executor executor;
+
+    public HedgingProxyClient(final ProxyClient<ClientT> delegate, final HedgingPolicy policy) {
+        this(delegate, policy, EXECUTOR);
+    }
+
+    HedgingProxyClient(final ProxyClient<ClientT> delegate, final HedgingPolicy policy, final Executor executor) {
+        super(delegate);
+        this.policy = policy;
+        this.executor = executor;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        final String operation = request.getClass().getSimpleName().replaceFirst("Request$", "");
+        if (!operation.startsWith("Get")) {
+            return super.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+
+        final Supplier<ResponseT> call = () -> timed(operation,
+            () -> super.injectCredentialsAndInvokeV2(request, requestFunction));
+        policy.onCall();
+        final Optional<Duration> hedgeAfter = policy.hedgeAfter(operation);
+        if (!hedgeAfter.isPresent() || !policy.tryHedge()) {
+            return call.get();
+        }
+
+        final CompletableFuture<ResponseT> primary = CompletableFuture.supplyAsync(call, executor);
+        try {
+            return primary.get(hedgeAfter.get().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return join(primary);
+        } catch (final TimeoutException e) {
+            return join(firstSuccessful(primary, CompletableFuture.supplyAsync(call, executor)));
+        }
+    }
+
+    private <ResponseT> ResponseT timed(final String operation, final Supplier<ResponseT> call) {
+        final long start = System.nanoTime();
+        final ResponseT response = call.get();
+        policy.record(operation, Duration.ofNanos(System.nanoTime() - start));
+        return response;
+    }
+
+    /**
+     * Completes with the first successful answer, or with the last failure if neither call succeeds.
+     */
+    private static <ResponseT> CompletableFuture<ResponseT> firstSuccessful(final CompletableFuture<ResponseT> primary,
+                                                                           final CompletableFuture<ResponseT> hedge) {
+        final CompletableFuture<ResponseT> result = new CompletableFuture<>();
+        final AtomicInteger failures = new AtomicInteger();
+        final BiConsumer<ResponseT, Throwable> onAnswer = (response, e) -> {
+            if (e == null) {
+                result.complete(response);
+            } else if (failures.incrementAndGet() == 2) {
+                result.completeExceptionally(e);
+            }
+        };
+        primary.whenComplete(onAnswer);
+        hedge.whenComplete(onAnswer);
+        return result;
+    }
+
+    private static <ResponseT> ResponseT join(final CompletableFuture<ResponseT> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private static RuntimeException propagate(final Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+    }
+}
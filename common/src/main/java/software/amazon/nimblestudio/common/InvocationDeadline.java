@@ -0,0 +1,121 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.lang.reflect.Field;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Point in time by which the current handler invocation has to return. Service calls are bounded by it and
+ * stabilization yields ahead of it, so that an invocation checkpoints its progress instead of being cut off.
+ */
+public final class InvocationDeadline {
+
+    // Kept back for the handler to serialize its progress and return
+    private static final Duration RESERVE = Duration.ofSeconds(5);
+    private static final Duration MIN_API_CALL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration MAX_API_CALL_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration MAX_API_CALL_ATTEMPT_TIMEOUT = Duration.ofSeconds(10);
+    // Assumed when the remaining time cannot be read, short enough to be safe for any handler timeout
+    private static final Duration UNKNOWN_REMAINING_TIME = Duration.ofMinutes(1);
+    // Private field of the aws-cloudformation-rpdk-java-plugin 2.x proxy holding the remaining time supplier
+    static final String REMAINING_TIME_FIELD = "remainingTimeInMillis";
+
+    private final Clock clock;
+    private final Instant deadline;
+
+    InvocationDeadline(final Clock clock, final Duration remainingTime) {
+        this.clock = clock;
+        this.deadline = clock.instant().plus(remainingTime);
+    }
+
+    public static InvocationDeadline of(final AmazonWebServicesClientProxy proxy, final Logger logger) {
+        return new InvocationDeadline(Clock.systemUTC(), remainingTimeOf(proxy, logger));
+    }
+
+    /**
+     * The remaining Lambda time is only handed to the proxy, which keeps it to decide between waiting locally and
+     * asking for a callback, so it is read from its {@link #REMAINING_TIME_FIELD} field.
+     */
+    static Duration remainingTimeOf(final AmazonWebServicesClientProxy proxy, final Logger logger) {
+        String reason;
+        try {
+            final Field field = AmazonWebServicesClientProxy.class.getDeclaredField(REMAINING_TIME_FIELD);
+            field.setAccessible(true);
+            final Object remainingMillis = ((Supplier<?>) field.get(proxy)).get();
+            if (remainingMillis instanceof Long) {
+                return Duration.ofMillis((Long) remainingMillis);
+            }
+            reason = "it held " + remainingMillis;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            reason = e.toString();
+        }
+        logger.log(String.format("WARNING: could not read the remaining invocation time from %s.%s (%s), "
+                + "assuming %d seconds. Service calls and stabilization may overrun a shorter handler timeout.",
+            AmazonWebServicesClientProxy.class.getSimpleName(), REMAINING_TIME_FIELD, reason,
+            UNKNOWN_REMAINING_TIME.getSeconds()));
+        return UNKNOWN_REMAINING_TIME;
+    }
+
+    /**
+     * @return time left for work before the invocation has to return, zero once it is over
+     */
+    public Duration remaining() {
+        final Duration remaining = Duration.between(clock.instant(), deadline).minus(RESERVE);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * @return true when there is no longer enough time for a service call attempt to time out and be handled
+     */
+    public boolean isNear() {
+        return !canWait(Duration.ZERO);
+    }
+
+    /**
+     * @return true when there is still enough time for a service call attempt after waiting for the given duration
+     */
+    public boolean canWait(final Duration wait) {
+        return remaining().minus(wait).compareTo(MAX_API_CALL_ATTEMPT_TIMEOUT) >= 0;
+    }
+
+    /**
+     * @return true once {@link #bound(AwsRequest)} sets timeouts shorter than the configured ones, so that a call
+     *     timing out may only have run out of invocation time
+     */
+    public boolean shortensTimeouts() {
+        return remaining().compareTo(MAX_API_CALL_TIMEOUT) < 0;
+    }
+
+    /**
+     * Sets the total and per-attempt timeouts of the request so that the call, including the retries of the client,
+     * gives up before the deadline.
+     */
+    public <RequestT extends AwsRequest> RequestT bound(final RequestT request) {
+        final Duration apiCallTimeout = clamp(remaining(), MIN_API_CALL_TIMEOUT, MAX_API_CALL_TIMEOUT);
+        final AwsRequestOverrideConfiguration overrideConfiguration = request.overrideConfiguration()
+            .map(AwsRequestOverrideConfiguration::toBuilder)
+            .orElseGet(AwsRequestOverrideConfiguration::builder)
+            .apiCallTimeout(apiCallTimeout)
+            .apiCallAttemptTimeout(clamp(apiCallTimeout, MIN_API_CALL_TIMEOUT, MAX_API_CALL_ATTEMPT_TIMEOUT))
+            .build();
+
+        @SuppressWarnings("unchecked") final RequestT bounded = (RequestT) request.toBuilder()
+            .overrideConfiguration(overrideConfiguration)
+            .build();
+        return bounded;
+    }
+
+    private static Duration clamp(final Duration duration, final Duration min, final Duration max) {
+        if (duration.compareTo(min) < 0) {
+            return min;
+        }
+        return duration.compareTo(max) > 0 ? max : duration;
+    }
+}
@@ -0,0 +1,66 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Caches Get responses for the lifetime of one handler invocation, so the READY response seen while stabilizing can be
+ * served to the chained ReadHandler without another round-trip. Only responses accepted by the predicate are kept,
+ * which lets callers skip resources that are still transitioning. Any call that is not a Get or List clears the cache.
+ */
+public final class InvocationResponseCache<ClientT> extends ForwardingProxyClient<ClientT> {
+
+    private final Predicate<AwsResponse> cacheable;
+    private final Map<AwsRequest, AwsResponse> responses = new ConcurrentHashMap<>();
+    private final AtomicInteger hitCount = new AtomicInteger();
+
+    public InvocationResponseCache(final ProxyClient<ClientT> delegate, final Predicate<AwsResponse> cacheable) {
+        super(delegate);
+        this.cacheable = cacheable;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        if (isList(request)) {
+            return super.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+        if (!isGet(request)) {
+            responses.clear();
+            return super.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+
+        @SuppressWarnings("unchecked") final ResponseT cached = (ResponseT) responses.get(request);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+
+        final ResponseT response = super.injectCredentialsAndInvokeV2(request, requestFunction);
+        if (cacheable.test(response)) {
+            responses.put(request, response);
+        }
+        return response;
+    }
+
+    public int getHitCount() {
+        return hitCount.get();
+    }
+
+    private static boolean isGet(final AwsRequest request) {
+        return request.getClass().getSimpleName().startsWith("Get");
+    }
+
+    private static boolean isList(final AwsRequest request) {
+        return request.getClass().getSimpleName().startsWith("List");
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.nimblestudio.common;
+
+import java.util.Locale;
+
+/**
+ * How much of each resource a List handler returns. List and import flows only need the primary identifiers, which
+ * spares translating the nested configuration of every item on large studios. The mode is a switch for local runs
+ * and tests, read from {@value #ENVIRONMENT_VARIABLE} as described in the README; deployed handlers don't get the
+ * variable and always run in FULL mode.
+ */
+public enum ListMode {
+    /**
+     * Every property the service returns.
+     */
+    FULL,
+    /**
+     * The resource identifier and the studio ID only.
+     */
+    IDENTIFIERS_ONLY;
+
+    static final String PROPERTY = "nimblestudio.listMode";
+    static final String ENVIRONMENT_VARIABLE = "NIMBLE_STUDIO_LIST_MODE";
+
+    /**
+     * @return the mode set by the system property or, failing that, the environment variable, FULL if neither is set
+     * to a known mode
+     */
+    public static ListMode configured() {
+        return of(System.getProperty(PROPERTY, System.getenv(ENVIRONMENT_VARIABLE)));
+    }
+
+    static ListMode of(final String value) {
+        if (value == null) {
+            return FULL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            return FULL;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package software.amazon.nimblestudio.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Turns one page of a List call into resource models. The SDK hands the page over as a list it already unmarshalled
+ * and the progress event takes a list back, so the only collection built here is the result, sized for the page up
+ * front and filled in a single pass.
+ */
+public final class ListPage {
+
+    private ListPage() {
+    }
+
+    /**
+     * @param items    page returned by the service, null or empty when it held no items
+     * @param listed   whether an item is to be listed at all
+     * @param toModel  translates a listed item, it is called once per item as the page is walked
+     */
+    public static <ItemT, ModelT> List<ModelT> translate(final List<ItemT> items,
+                                                         final Predicate<? super ItemT> listed,
+                                                         final Function<? super ItemT, ? extends ModelT> toModel) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<ModelT> models = new ArrayList<>(items.size());
+        for (final ItemT item : items) {
+            if (listed.test(item)) {
+                models.add(toModel.apply(item));
+            }
+        }
+        return models;
+    }
+}
@@ -0,0 +1,76 @@
+package software.amazon.nimblestudio.common;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Picks the maxResults of a List call so that translating the page fits in the time the invocation has left. The
+ * translation cost per item is learned per key, e.g. resource type and list mode, for the lifetime of the container;
+ * until a key has been measured, pages are as large as the service allows.
+ */
+public final class ListPageSize {
+
+    static final int MIN_PAGE_SIZE = 10;
+    // Largest page the Nimble Studio List operations return
+    static final int MAX_PAGE_SIZE = 100;
+    // Share of the remaining time a page may spend on translation, the rest is left for the call itself
+    private static final double TRANSLATION_SHARE = 0.5;
+    private static final double SMOOTHING = 0.2;
+
+    private static final ListPageSize SHARED = new ListPageSize(System::nanoTime);
+
+    private final LongSupplier nanoTime;
+    private final Map<String, Double> nanosPerItem = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a tracker that learns on its own, for a handler that is not to share what other handlers measured.
+     */
+    public ListPageSize() {
+        this(System::nanoTime);
+    }
+
+    ListPageSize(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return the page size tracker shared by every handler of the JVM
+     */
+    public static ListPageSize shared() {
+        return SHARED;
+    }
+
+    public int pageSize(final String key, final InvocationDeadline deadline) {
+        if (deadline.isNear()) {
+            return MIN_PAGE_SIZE;
+        }
+        final Double perItem = nanosPerItem.get(key);
+        if (perItem == null || perItem <= 0) {
+            return MAX_PAGE_SIZE;
+        }
+        final double budget = deadline.remaining().toNanos() * TRANSLATION_SHARE;
+        return (int) Math.max(MIN_PAGE_SIZE, Math.min(MAX_PAGE_SIZE, budget / perItem));
+    }
+
+    /**
+     * Runs the translation of one page and learns its cost per item.
+     */
+    public <T> List<T> translate(final String key, final Supplier<List<T>> translation) {
+        final long start = nanoTime.getAsLong();
+        final List<T> models = translation.get();
+        record(key, models.size(), Duration.ofNanos(nanoTime.getAsLong() - start));
+        return models;
+    }
+
+    void record(final String key, final int items, final Duration elapsed) {
+        if (items == 0) {
+            return;
+        }
+        final double sample = (double) elapsed.toNanos() / items;
+        nanosPerItem.merge(key, sample, (average, latest) -> average + SMOOTHING * (latest - average));
+    }
+}
@@ -0,0 +1,94 @@
+package software.amazon.nimblestudio.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Canonical hash of a resource model, used to tell whether two models describe the same resource. Properties are
+ * compared by name whatever their order, lists whatever the order of their elements, and null, empty strings, empty
+ * lists and empty objects all count as unset.
+ */
+public final class ModelFingerprint {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ModelFingerprint() {
+    }
+
+    /**
+     * @param model resource model to fingerprint, serialized the way it is exchanged with CloudFormation
+     * @param ignoredProperties top-level properties left out, typically the read-only ones
+     * @return hex encoded SHA-256 of the canonical form of the model
+     */
+    public static String of(final Object model, final Collection<String> ignoredProperties) {
+        final JsonNode tree = MAPPER.valueToTree(model);
+        if (tree != null && tree.isObject()) {
+            ((ObjectNode) tree).remove(ignoredProperties);
+        }
+
+        return sha256(canonical(tree).orElse("null"));
+    }
+
+    public static boolean same(final Object model, final Object other, final Collection<String> ignoredProperties) {
+        return of(model, ignoredProperties).equals(of(other, ignoredProperties));
+    }
+
+    /**
+     * @return canonical JSON text of the node, or empty if the node is unset
+     */
+    static Optional<String> canonical(final JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()
+            || (node.isTextual() && node.textValue().isEmpty())) {
+            return Optional.empty();
+        }
+
+        if (node.isObject()) {
+            final SortedMap<String, String> fields = new TreeMap<>();
+            node.fields().forEachRemaining(field ->
+                canonical(field.getValue()).ifPresent(value -> fields.put(field.getKey(), value)));
+            if (fields.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(fields.entrySet().stream()
+                .map(field -> TextNode.valueOf(field.getKey()).toString() + ":" + field.getValue())
+                .collect(joining(",", "{", "}")));
+        }
+
+        if (node.isArray()) {
+            final List<String> elements = new ArrayList<>();
+            node.forEach(element -> canonical(element).ifPresent(elements::add));
+            if (elements.isEmpty()) {
+                return Optional.empty();
+            }
+            Collections.sort(elements);
+            return Optional.of(elements.stream().collect(joining(",", "[", "]")));
+        }
+
+        return Optional.of(node.toString());
+    }
+
+    static String sha256(final String text) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return BinaryUtils.toHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package software.amazon.nimblestudio.common;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Helpers to report a property read from the service in the shape the template declared it, so that differences
+ * the service doesn't treat as changes don't show up as drift or trigger updates.
+ */
+public final class ModelNormalizer {
+
+    private ModelNormalizer() {
+    }
+
+    /**
+     * @return the declared list when it holds the same elements as the live one in another order, null when the
+     *     live list is empty and the template left it out, and the live list otherwise
+     */
+    public static <T> List<T> list(final List<T> live, final List<T> declared) {
+        if (live == null || live.isEmpty()) {
+            return declared == null || declared.isEmpty() ? declared : live;
+        }
+        if (declared != null && ModelFingerprint.same(live, declared, Collections.emptySet())) {
+            return declared;
+        }
+        return live;
+    }
+
+    /**
+     * @return null when the template left the property out and the service reports its default for it, the live
+     *     value otherwise
+     */
+    public static <T> T withoutDefault(final T live, final T declared, final T serverDefault) {
+        return declared == null && serverDefault.equals(live) ? null : live;
+    }
+}
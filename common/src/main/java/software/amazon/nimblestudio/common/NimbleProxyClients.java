@@ -0,0 +1,60 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.function.Predicate;
+
+/**
+ * Builds the proxy client every handler invocation calls Nimble Studio through, so that the resource types share one
+ * order of decorators. From the handler inwards, a call is
+ * <ol>
+ *     <li>served again within the invocation, see {@link InvocationResponseCache}</li>
+ *     <li>served from the warm container, see {@link WarmResponseCacheProxyClient}</li>
+ *     <li>joined with an identical call in flight for the same caller, see {@link SingleFlightProxyClient}</li>
+ *     <li>retried when throttled, see {@link ThrottleRetryProxyClient}</li>
+ *     <li>hedged when a Get is slow, see {@link HedgingProxyClient}</li>
+ *     <li>failed fast while the service keeps failing, see {@link CircuitBreakerProxyClient}</li>
+ *     <li>paced per account and region, see {@link RateLimitedProxyClient}</li>
+ *     <li>bounded by the invocation deadline, see {@link DeadlineProxyClient}</li>
+ * </ol>
+ */
+public final class NimbleProxyClients {
+
+    private NimbleProxyClients() {
+    }
+
+    /**
+     * @param settled whether a response describes a resource that is not transitioning, so that it can be served again
+     */
+    public static ProxyClient<NimbleClient> decorate(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<?> request,
+        final InvocationDeadline deadline,
+        final StabilizationContext context,
+        final Predicate<AwsResponse> settled) {
+
+        final ProxyClient<NimbleClient> serviceClient = new ThrottleRetryProxyClient<>(
+            new HedgingProxyClient<>(
+                new CircuitBreakerProxyClient<>(
+                    new RateLimitedProxyClient<>(
+                        new DeadlineProxyClient<>(proxy.newProxy(ClientBuilder::getClient), deadline),
+                        RateLimiter.shared(), request.getAwsAccountId(), request.getRegion(), deadline),
+                    CircuitBreaker.shared(), request.getAwsAccountId(), request.getRegion(), deadline),
+                HedgingPolicy.shared()),
+            deadline);
+
+        return new InvocationResponseCache<>(
+            new WarmResponseCacheProxyClient<>(
+                new SingleFlightProxyClient<>(serviceClient, SingleFlight.shared(),
+                    SingleFlightProxyClient.caller(request.getAwsAccountId(), request.getCallerCredentials()),
+                    deadline),
+                WarmResponseCache.shared(), request.getAwsAccountId(),
+                CallerIdentity.of(request.getAwsAccountId(), request.getCallerCredentials()).orElse(null), settled,
+                () -> context.getStabilizationStartedAt() != null),
+            settled);
+    }
+}
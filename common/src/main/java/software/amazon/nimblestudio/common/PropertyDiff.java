@@ -0,0 +1,31 @@
+package software.amazon.nimblestudio.common;
+
+import java.util.Collections;
+import java.util.function.Function;
+
+/**
+ * Property level comparison of the previous and desired state of a resource, so that an update request only carries
+ * the properties that changed. Properties are compared the way {@link ModelFingerprint} compares models. Without a
+ * previous state every property counts as changed.
+ *
+ * @param <M> resource model type
+ */
+public final class PropertyDiff<M> {
+
+    private final M previous;
+    private final M desired;
+
+    private PropertyDiff(final M previous, final M desired) {
+        this.previous = previous;
+        this.desired = desired;
+    }
+
+    public static <M> PropertyDiff<M> between(final M previous, final M desired) {
+        return new PropertyDiff<>(previous, desired);
+    }
+
+    public boolean changed(final Function<M, ?> property) {
+        return previous == null
+            || !ModelFingerprint.same(property.apply(previous), property.apply(desired), Collections.emptySet());
+    }
+}
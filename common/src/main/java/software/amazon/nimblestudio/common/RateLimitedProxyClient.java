@@ -0,0 +1,112 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Paces every service call through the {@link RateLimiter} buckets of the account and region the handler was invoked
+ * for, and reports back whether the service throttled it. A call
+ * never waits for a token past the invocation deadline; it is made then and left to the service to accept or throttle.
+ */
+public final class RateLimitedProxyClient<ClientT> extends ForwardingProxyClient<ClientT> {
+
+    private final RateLimiter rateLimiter;
+    private final String scope;
+    private final InvocationDeadline deadline;
+    private final Consumer<Duration> sleeper;
+
+    public RateLimitedProxyClient(final ProxyClient<ClientT> delegate, final RateLimiter rateLimiter,
+                                  final String awsAccountId, final String region, final InvocationDeadline deadline) {
+        this(delegate, rateLimiter, awsAccountId, region, deadline, RateLimitedProxyClient::sleep);
+    }
+
+    RateLimitedProxyClient(final ProxyClient<ClientT> delegate, final RateLimiter rateLimiter,
+                           final String awsAccountId, final String region, final InvocationDeadline deadline,
+                           final Consumer<Duration> sleeper) {
+        super(delegate);
+        this.rateLimiter = rateLimiter;
+        this.scope = RateLimiter.scope(awsAccountId, region);
+        this.deadline = deadline;
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        final RateLimiter.OperationFamily family = pace(request);
+        try {
+            final ResponseT response = super.injectCredentialsAndInvokeV2(request, requestFunction);
+            rateLimiter.onSuccess(scope, family);
+            return response;
+        } catch (final AwsServiceException e) {
+            record(family, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+
+        final RateLimiter.OperationFamily family = pace(request);
+        return super.injectCredentialsAndInvokeV2Async(request, requestFunction)
+            .whenComplete((response, e) -> {
+                final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                if (cause == null) {
+                    rateLimiter.onSuccess(scope, family);
+                } else if (cause instanceof AwsServiceException) {
+                    record(family, (AwsServiceException) cause);
+                }
+            });
+    }
+
+    /**
+     * Pages are fetched lazily as the iterable is consumed, so only the call that creates the iterable is paced.
+     */
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+    IterableT injectCredentialsAndInvokeIterableV2(
+        final RequestT request,
+        final Function<RequestT, IterableT> requestFunction) {
+
+        pace(request);
+        return super.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    private RateLimiter.OperationFamily pace(final AwsRequest request) {
+        final RateLimiter.OperationFamily family = RateLimiter.OperationFamily.of(request);
+        final Duration wait = rateLimiter.acquire(scope, family);
+        final Duration remaining = deadline.remaining();
+        if (!wait.isZero()) {
+            sleeper.accept(wait.compareTo(remaining) < 0 ? wait : remaining);
+        }
+        return family;
+    }
+
+    private void record(final RateLimiter.OperationFamily family, final AwsServiceException e) {
+        if (e.isThrottlingException()) {
+            rateLimiter.onThrottled(scope, family);
+        }
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
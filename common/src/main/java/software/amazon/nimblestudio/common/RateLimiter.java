@@ -0,0 +1,136 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Client side token buckets smoothing the calls a warm handler JVM makes to Nimble Studio, one bucket per account,
+ * region and operation family, since that is what the service throttles by. A bucket halves its rate whenever the
+ * service throttles a call and wins it back a little with every call that goes through, so that the rate settles just
+ * under what the account is allowed in the region.
+ */
+public final class RateLimiter {
+
+    /**
+     * Reads and mutations are throttled by the service separately.
+     */
+    public enum OperationFamily {
+        READ,
+        MUTATION;
+
+        public static OperationFamily of(final AwsRequest request) {
+            final String operation = request.getClass().getSimpleName();
+            return operation.startsWith("Get") || operation.startsWith("List") ? READ : MUTATION;
+        }
+    }
+
+    private static final RateLimiter SHARED = new RateLimiter(System::nanoTime);
+
+    private final LongSupplier nanoTime;
+    private final ConcurrentMap<String, Map<OperationFamily, TokenBucket>> buckets = new ConcurrentHashMap<>();
+
+    RateLimiter(final LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return the limiter shared by every handler of the JVM
+     */
+    public static RateLimiter shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return the scope whose calls share buckets
+     */
+    public static String scope(final String awsAccountId, final String region) {
+        return awsAccountId + "/" + region;
+    }
+
+    /**
+     * Takes a token for a call of the family, borrowing it from the future if the bucket is empty.
+     *
+     * @return how long the caller has to wait before making the call
+     */
+    public Duration acquire(final String scope, final OperationFamily family) {
+        return bucket(scope, family).acquire();
+    }
+
+    public void onSuccess(final String scope, final OperationFamily family) {
+        bucket(scope, family).increase();
+    }
+
+    public void onThrottled(final String scope, final OperationFamily family) {
+        bucket(scope, family).decrease();
+    }
+
+    /**
+     * @return current refill rate of the family in the scope, in calls per second
+     */
+    double rate(final String scope, final OperationFamily family) {
+        return bucket(scope, family).rate();
+    }
+
+    private TokenBucket bucket(final String scope, final OperationFamily family) {
+        return buckets.computeIfAbsent(scope, s -> {
+            final Map<OperationFamily, TokenBucket> families = new EnumMap<>(OperationFamily.class);
+            families.put(OperationFamily.READ, new TokenBucket(nanoTime, 20.0, 20.0));
+            families.put(OperationFamily.MUTATION, new TokenBucket(nanoTime, 5.0, 5.0));
+            return families;
+        }).get(family);
+    }
+
+    private static final class TokenBucket {
+
+        private static final double MIN_RATE = 0.5;
+        private static final double INCREASE_PER_CALL = 0.05;
+        private static final long NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+
+        private final LongSupplier nanoTime;
+        private final double maxRate;
+        private final double capacity;
+        private double rate;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(final LongSupplier nanoTime, final double maxRate, final double capacity) {
+            this.nanoTime = nanoTime;
+            this.maxRate = maxRate;
+            this.capacity = capacity;
+            this.rate = maxRate;
+            this.tokens = capacity;
+            this.refilledAt = nanoTime.getAsLong();
+        }
+
+        synchronized Duration acquire() {
+            refill();
+            tokens -= 1.0;
+            return tokens >= 0 ? Duration.ZERO : Duration.ofNanos((long) (-tokens / rate * NANOS_PER_SECOND));
+        }
+
+        synchronized void increase() {
+            rate = Math.min(maxRate, rate + INCREASE_PER_CALL);
+        }
+
+        synchronized void decrease() {
+            refill();
+            rate = Math.max(MIN_RATE, rate / 2);
+        }
+
+        synchronized double rate() {
+            return rate;
+        }
+
+        private void refill() {
+            final long now = nanoTime.getAsLong();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * rate / NANOS_PER_SECOND);
+            refilledAt = now;
+        }
+    }
+}
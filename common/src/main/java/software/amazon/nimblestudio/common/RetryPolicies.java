@@ -0,0 +1,158 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
+import software.amazon.awssdk.services.nimble.model.InternalServerErrorException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * SDK retry behaviour by operation and by error class. Idempotent reads retry transient failures quickly, creates
+ * lean on their client token for a few careful retries, and conflicts on mutations are never retried by the SDK
+ * because the handlers resolve them. Internal server errors back off longer than other transient failures. Throttled
+ * reads are left to {@link ThrottleRetryProxyClient}, which every client is wrapped in, so that its retries don't
+ * multiply those of the SDK.
+ */
+public final class RetryPolicies {
+
+    enum OperationKind {
+        READ,
+        CREATE,
+        MUTATION;
+
+        static OperationKind of(final SdkRequest request) {
+            if (request instanceof AwsRequest
+                && RateLimiter.OperationFamily.of((AwsRequest) request) == RateLimiter.OperationFamily.READ) {
+                return READ;
+            }
+            return request.getClass().getSimpleName().startsWith("Create") ? CREATE : MUTATION;
+        }
+    }
+
+    enum ErrorClass {
+        THROTTLING,
+        CONFLICT,
+        INTERNAL,
+        TRANSIENT;
+
+        static ErrorClass of(final SdkException exception) {
+            if (exception instanceof ConflictException) {
+                return CONFLICT;
+            }
+            if (exception instanceof InternalServerErrorException) {
+                return INTERNAL;
+            }
+            if (exception instanceof AwsServiceException) {
+                final AwsServiceException serviceException = (AwsServiceException) exception;
+                if (serviceException.isThrottlingException()) {
+                    return THROTTLING;
+                }
+                if (serviceException.statusCode() >= 500) {
+                    return INTERNAL;
+                }
+            }
+            return TRANSIENT;
+        }
+    }
+
+    static final class Rule {
+        private final int maxRetries;
+        private final BackoffStrategy backoff;
+
+        private Rule(final int maxRetries, final BackoffStrategy backoff) {
+            this.maxRetries = maxRetries;
+            this.backoff = backoff;
+        }
+
+        int maxRetries() {
+            return maxRetries;
+        }
+    }
+
+    private static final BackoffStrategy FAST_BACKOFF = FullJitterBackoffStrategy.builder()
+        .baseDelay(Duration.ofMillis(50))
+        .maxBackoffTime(Duration.ofSeconds(1))
+        .build();
+
+    private static final BackoffStrategy STANDARD_BACKOFF = FullJitterBackoffStrategy.builder()
+        .baseDelay(Duration.ofMillis(100))
+        .maxBackoffTime(Duration.ofSeconds(5))
+        .build();
+
+    private static final BackoffStrategy LONG_BACKOFF = FullJitterBackoffStrategy.builder()
+        .baseDelay(Duration.ofMillis(500))
+        .maxBackoffTime(Duration.ofSeconds(20))
+        .build();
+
+    private static final BackoffStrategy THROTTLING_BACKOFF = EqualJitterBackoffStrategy.builder()
+        .baseDelay(Duration.ofMillis(500))
+        .maxBackoffTime(Duration.ofSeconds(20))
+        .build();
+
+    private static final Rule NO_RETRY = new Rule(0, BackoffStrategy.none());
+
+    private static final Map<OperationKind, Map<ErrorClass, Rule>> RULES = new EnumMap<>(OperationKind.class);
+
+    static {
+        rule(OperationKind.READ, ErrorClass.INTERNAL, new Rule(3, LONG_BACKOFF));
+        rule(OperationKind.READ, ErrorClass.TRANSIENT, new Rule(4, FAST_BACKOFF));
+
+        rule(OperationKind.CREATE, ErrorClass.THROTTLING, new Rule(3, THROTTLING_BACKOFF));
+        rule(OperationKind.CREATE, ErrorClass.INTERNAL, new Rule(2, LONG_BACKOFF));
+        rule(OperationKind.CREATE, ErrorClass.TRANSIENT, new Rule(2, STANDARD_BACKOFF));
+
+        rule(OperationKind.MUTATION, ErrorClass.THROTTLING, new Rule(3, THROTTLING_BACKOFF));
+        rule(OperationKind.MUTATION, ErrorClass.INTERNAL, new Rule(1, LONG_BACKOFF));
+        rule(OperationKind.MUTATION, ErrorClass.TRANSIENT, new Rule(2, STANDARD_BACKOFF));
+    }
+
+    /**
+     * Upper bound across all rules; the per-rule limits are applied by the retry condition.
+     */
+    static final int MAX_RETRIES = 4;
+
+    private static final RetryCondition DEFAULT_CONDITION = RetryCondition.defaultRetryCondition();
+
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+        .numRetries(MAX_RETRIES)
+        .retryCondition(RetryPolicies::shouldRetry)
+        .backoffStrategy(RetryPolicies::delayBeforeNextRetry)
+        .throttlingBackoffStrategy(RetryPolicies::delayBeforeNextRetry)
+        .build();
+
+    private RetryPolicies() {
+    }
+
+    public static RetryPolicy retryPolicy() {
+        return RETRY_POLICY;
+    }
+
+    static Rule ruleFor(final RetryPolicyContext context) {
+        final OperationKind operation = OperationKind.of(context.originalRequest());
+        final ErrorClass errorClass = ErrorClass.of(context.exception());
+        return RULES.get(operation).getOrDefault(errorClass, NO_RETRY);
+    }
+
+    static boolean shouldRetry(final RetryPolicyContext context) {
+        return DEFAULT_CONDITION.shouldRetry(context) && context.retriesAttempted() < ruleFor(context).maxRetries;
+    }
+
+    static Duration delayBeforeNextRetry(final RetryPolicyContext context) {
+        return ruleFor(context).backoff.computeDelayBeforeNextRetry(context);
+    }
+
+    private static void rule(final OperationKind operation, final ErrorClass errorClass, final Rule rule) {
+        RULES.computeIfAbsent(operation, o -> new EnumMap<>(ErrorClass.class)).put(errorClass, rule);
+    }
+}
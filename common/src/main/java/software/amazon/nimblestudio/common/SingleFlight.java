@@ -0,0 +1,122 @@
+package software.amazon.nimblestudio.common;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent identical calls share one execution. The first caller for a key runs the call; callers that arrive
+ * while it is still running get its outcome. A call is forgotten as soon as it completes, so a caller never gets a
+ * result that was already final before it asked.
+ */
+public final class SingleFlight {
+
+    private static final SingleFlight SHARED = new SingleFlight();
+
+    private final ConcurrentMap<Object, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sharedCount = new AtomicLong();
+
+    SingleFlight() {
+    }
+
+    public static SingleFlight shared() {
+        return SHARED;
+    }
+
+    /**
+     * Runs the call on the calling thread, unless an identical call is in flight, in which case its outcome is
+     * awaited and returned or rethrown as is. A caller that has waited for the given time makes the call itself.
+     */
+    <T> T execute(final Object key, final Duration wait, final Supplier<T> call) {
+        final CompletableFuture<T> flight = new CompletableFuture<>();
+        final CompletableFuture<T> existing = join(key, flight);
+        if (existing != null) {
+            try {
+                return existing.get(wait.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (final ExecutionException e) {
+                throw unwrap(e);
+            } catch (final TimeoutException e) {
+                return call.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return call.get();
+            }
+        }
+
+        final T result;
+        try {
+            result = call.get();
+        } catch (final RuntimeException | Error e) {
+            land(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        land(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    /**
+     * Starts the call, unless an identical call is in flight, in which case that call's outcome is returned.
+     */
+    <T> CompletableFuture<T> executeAsync(final Object key, final Supplier<CompletableFuture<T>> call) {
+        final CompletableFuture<T> flight = new CompletableFuture<>();
+        final CompletableFuture<T> existing = join(key, flight);
+        if (existing != null) {
+            return existing.thenApply(result -> result);
+        }
+
+        final CompletableFuture<T> started;
+        try {
+            started = call.get();
+        } catch (final RuntimeException | Error e) {
+            land(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        started.whenComplete((result, e) -> {
+            land(key, flight);
+            if (e == null) {
+                flight.complete(result);
+            } else {
+                flight.completeExceptionally(e);
+            }
+        });
+        return flight.thenApply(result -> result);
+    }
+
+    long sharedCount() {
+        return sharedCount.get();
+    }
+
+    /**
+     * @return the call already in flight for the key, or null if the given one is now in flight
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> join(final Object key, final CompletableFuture<T> flight) {
+        // Only calls of the same request, and so the same response type, share a key
+        final CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            sharedCount.incrementAndGet();
+        }
+        return existing;
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+    }
+
+    private void land(final Object key, final CompletableFuture<?> flight) {
+        inFlight.remove(key, flight);
+    }
+}
@@ -0,0 +1,79 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Coalesces identical reads made at the same time by different invocations in the container through
+ * {@link SingleFlight}. Reads are identical when they are made for the same caller and their requests are equal.
+ * Mutations and paginated calls are always made on their own. An invocation waits for a read of another one only for as
+ * long as its deadline allows, then makes the read itself.
+ */
+public final class SingleFlightProxyClient<ClientT> extends ForwardingProxyClient<ClientT> {
+
+    private final SingleFlight singleFlight;
+    private final String caller;
+    private final InvocationDeadline deadline;
+
+    /**
+     * @param caller who the reads are made for, see {@link #caller(String, Credentials)}
+     */
+    public SingleFlightProxyClient(final ProxyClient<ClientT> delegate, final SingleFlight singleFlight,
+                                   final String caller, final InvocationDeadline deadline) {
+        super(delegate);
+        this.singleFlight = singleFlight;
+        this.caller = caller;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return the {@link CallerIdentity} of the credentials; reads of a caller without credentials are only coalesced
+     *     within the invocation
+     */
+    public static String caller(final String awsAccountId, final Credentials credentials) {
+        return CallerIdentity.of(awsAccountId, credentials).orElseGet(() -> awsAccountId + "/" + UUID.randomUUID());
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        if (!isRead(request)) {
+            return super.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+        return singleFlight.execute(key(request), deadline.remaining(),
+            () -> super.injectCredentialsAndInvokeV2(request, requestFunction));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+
+        if (!isRead(request)) {
+            return super.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        }
+        return singleFlight.executeAsync(key(request),
+            () -> super.injectCredentialsAndInvokeV2Async(request, requestFunction));
+    }
+
+    private static boolean isRead(final AwsRequest request) {
+        return RateLimiter.OperationFamily.of(request) == RateLimiter.OperationFamily.READ;
+    }
+
+    /**
+     * Requests compare by their fields and type, not by the credentials injected into them.
+     */
+    private Object key(final AwsRequest request) {
+        return Arrays.asList(caller, request);
+    }
+}
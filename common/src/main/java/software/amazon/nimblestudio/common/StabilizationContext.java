@@ -0,0 +1,28 @@
+package software.amazon.nimblestudio.common;
+
+/**
+ * Callback context state that a {@link Stabilizer} keeps across handler invocations.
+ */
+public interface StabilizationContext {
+
+    /**
+     * @return epoch millis at which the current stabilization started, or null if none is running
+     */
+    Long getStabilizationStartedAt();
+
+    void setStabilizationStartedAt(Long stabilizationStartedAt);
+
+    /**
+     * @return epoch millis before which the current stabilization does not poll, or null if it was never deferred
+     */
+    Long getStabilizationPollAt();
+
+    void setStabilizationPollAt(Long stabilizationPollAt);
+
+    /**
+     * @return true once the current stabilization polled the resource while it was still in progress
+     */
+    boolean isStabilizationSeenInProgress();
+
+    void setStabilizationSeenInProgress(boolean stabilizationSeenInProgress);
+}
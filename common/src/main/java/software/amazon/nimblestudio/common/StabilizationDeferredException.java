@@ -0,0 +1,23 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+
+/**
+ * Ends a stabilization check when the resource is not expected to be done for a long time, so that the handler can
+ * return and be called back instead of waiting. See {@link Stabilizer.Run#deferrable(java.util.function.Function)}.
+ */
+final class StabilizationDeferredException extends CfnGeneralServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int callbackDelaySeconds;
+
+    StabilizationDeferredException(final String operation, final int callbackDelaySeconds) {
+        super(operation);
+        this.callbackDelaySeconds = callbackDelaySeconds;
+    }
+
+    int getCallbackDelaySeconds() {
+        return callbackDelaySeconds;
+    }
+}
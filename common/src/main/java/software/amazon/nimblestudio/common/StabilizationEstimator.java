@@ -0,0 +1,42 @@
+package software.amazon.nimblestudio.common;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Learns how long stabilizations take, keyed by resource type, operation and the configuration features that affect
+ * the duration. Samples live for the lifetime of the container, so a cold container starts without estimates.
+ */
+public final class StabilizationEstimator {
+
+    private static final int MIN_SAMPLES = 5;
+    private static final StabilizationEstimator SHARED = new StabilizationEstimator(MIN_SAMPLES);
+
+    private final int minSamples;
+    private final ConcurrentMap<String, DurationSketch> sketches = new ConcurrentHashMap<>();
+
+    StabilizationEstimator(final int minSamples) {
+        this.minSamples = minSamples;
+    }
+
+    public static StabilizationEstimator shared() {
+        return SHARED;
+    }
+
+    public void record(final String key, final Duration elapsed) {
+        sketches.computeIfAbsent(key, k -> new DurationSketch()).record(elapsed);
+    }
+
+    /**
+     * @return the estimated duration at the given quantile, or empty until enough samples were recorded for the key
+     */
+    public Optional<Duration> estimate(final String key, final double quantile) {
+        final DurationSketch sketch = sketches.get(key);
+        if (sketch == null || sketch.count() < minSamples) {
+            return Optional.empty();
+        }
+        return Optional.of(sketch.quantile(quantile));
+    }
+}
@@ -0,0 +1,302 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Decides whether a resource has finished transitioning, based on which of its states count as succeeded, in progress
+ * or failed for a given operation. Any state outside those tables is treated as a failure. Each stabilizer also
+ * carries the polling schedule suited to the resource type, and learns how long the operation usually takes so that
+ * polling can be held off until the resource is likely to be done, see {@link #begin(StabilizationContext, String...)}.
+ */
+public final class Stabilizer<ResourceT, StateT> {
+
+    private static final double EXPECTED_QUANTILE = 0.5;
+    private static final Duration LOCAL_WAIT_LIMIT = Duration.ofMinutes(1);
+
+    public enum Outcome {
+        SUCCEEDED,
+        IN_PROGRESS,
+        FAILED,
+        UNEXPECTED
+    }
+
+    private final String typeName;
+    private final String operation;
+    private final Function<ResourceT, StateT> stateOf;
+    private final Function<ResourceT, String> describe;
+    private final Set<StateT> succeededStates;
+    private final Set<StateT> inProgressStates;
+    private final Set<StateT> failedStates;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Duration timeout;
+    private final StabilizationEstimator estimator;
+    private final Clock clock;
+
+    private Stabilizer(final Builder<ResourceT, StateT> builder) {
+        this.typeName = builder.typeName;
+        this.operation = builder.operation;
+        this.stateOf = builder.stateOf;
+        this.describe = builder.describe;
+        this.succeededStates = Collections.unmodifiableSet(new HashSet<>(builder.succeededStates));
+        this.inProgressStates = Collections.unmodifiableSet(new HashSet<>(builder.inProgressStates));
+        this.failedStates = Collections.unmodifiableSet(new HashSet<>(builder.failedStates));
+        this.initialDelay = builder.initialDelay;
+        this.maxDelay = builder.maxDelay;
+        this.timeout = builder.timeout;
+        this.estimator = builder.estimator;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * @param typeName  resource type name used in log lines
+     * @param stateOf   extracts the state from the service representation of the resource
+     * @param describe  renders state, status code and status message when stabilization fails
+     */
+    public static <ResourceT, StateT> Builder<ResourceT, StateT> builder(
+        final String typeName,
+        final Function<ResourceT, StateT> stateOf,
+        final Function<ResourceT, String> describe) {
+
+        return new Builder<>(typeName, stateOf, describe);
+    }
+
+    public Outcome classify(final StateT state) {
+        if (succeededStates.contains(state)) {
+            return Outcome.SUCCEEDED;
+        }
+        if (inProgressStates.contains(state)) {
+            return Outcome.IN_PROGRESS;
+        }
+        return failedStates.contains(state) ? Outcome.FAILED : Outcome.UNEXPECTED;
+    }
+
+    /**
+     * Starts, or resumes after a callback, one stabilization. The returned run is both the polling delay for the call
+     * chain and the stabilization check.
+     *
+     * @param deadline by which the invocation has to return, the run yields rather than poll past it
+     * @param features configuration features that affect how long the operation takes, e.g. "keyType=AWS_OWNED_KEY"
+     */
+    public Run<ResourceT, StateT> begin(final StabilizationContext context, final InvocationDeadline deadline,
+                                        final String... features) {
+        final String key = String.join("/", typeName, operation, String.join(",", features));
+        // Holding off is only worth it when the resource is expected to take longer than the first polling interval
+        final Duration expected = estimator.estimate(key, EXPECTED_QUANTILE)
+            .filter(estimate -> estimate.compareTo(initialDelay) > 0)
+            .orElse(null);
+        return new Run<>(this, context, deadline, key, expected);
+    }
+
+    /**
+     * One stabilization of one resource. The start time is kept in the callback context so that the elapsed time
+     * survives callbacks. It is recorded once the resource reaches a succeeded state, but only if the resource was
+     * seen still in progress before: a resource found done at its first poll may have been done long before, often
+     * while polling was held off for the current estimate, so that elapsed time would only push the estimate up.
+     */
+    public static final class Run<ResourceT, StateT> implements Delay {
+        private final Stabilizer<ResourceT, StateT> stabilizer;
+        private final StabilizationContext context;
+        private final InvocationDeadline deadline;
+        private final String key;
+        private final Duration expected;
+        private final AdaptiveDelay delay;
+
+        private Run(final Stabilizer<ResourceT, StateT> stabilizer, final StabilizationContext context,
+                    final InvocationDeadline deadline, final String key, final Duration expected) {
+            this.stabilizer = stabilizer;
+            this.context = context;
+            this.deadline = deadline;
+            this.key = key;
+            this.expected = expected;
+            this.delay = new AdaptiveDelay(stabilizer.initialDelay, stabilizer.maxDelay, stabilizer.timeout,
+                stabilizer.clock);
+        }
+
+        @Override
+        public Duration nextDelay(final int attempt) {
+            return delay.nextDelay(attempt);
+        }
+
+        /**
+         * Wraps the call chain of a handler so that a stabilization deferred by {@link #isHoldingOff()} ends the
+         * invocation in progress, with a callback delay, rather than failing it. The service call made by the chain is
+         * kept in the callback context and is not repeated when the handler is called back.
+         */
+        public <ModelT, CallbackT> Function<ProgressEvent<ModelT, CallbackT>, ProgressEvent<ModelT, CallbackT>>
+            deferrable(final Function<ProgressEvent<ModelT, CallbackT>, ProgressEvent<ModelT, CallbackT>> chain) {
+
+            return progress -> {
+                try {
+                    return chain.apply(progress);
+                } catch (final StabilizationDeferredException e) {
+                    return ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(),
+                        e.getCallbackDelaySeconds(), progress.getResourceModel());
+                }
+            };
+        }
+
+        /**
+         * @return true while the resource is not yet expected to be done, in which case polling it would be wasted
+         * @throws CfnGeneralServiceException if the resource is not expected to be done for longer than is worth
+         * waiting within one invocation, or the invocation deadline is near, handled by {@link #deferrable(Function)}
+         */
+        public boolean isHoldingOff() {
+            start();
+            final Duration remaining = delay.remainingHoldOff();
+            if (remaining.compareTo(LOCAL_WAIT_LIMIT) > 0) {
+                context.setStabilizationPollAt(stabilizer.clock.millis() + remaining.toMillis());
+                throw new StabilizationDeferredException(stabilizer.operation, toCallbackDelaySeconds(remaining));
+            }
+            if (deadline.isNear()) {
+                // The start time and any hold-off are already in the callback context, so nothing is lost
+                throw new StabilizationDeferredException(stabilizer.operation,
+                    toCallbackDelaySeconds(remaining.isZero() ? stabilizer.initialDelay : remaining));
+            }
+            return !remaining.isZero();
+        }
+
+        /**
+         * @return true once the resource reached a succeeded state, false while it is still in progress
+         * @throws CfnGeneralServiceException if the resource is in a failed or unexpected state
+         */
+        public boolean isStabilized(final String resourceId, final ResourceT resource, final Logger logger) {
+            final Instant startedAt = start();
+            final StateT state = stabilizer.stateOf.apply(resource);
+            delay.observe(state);
+
+            final Outcome outcome = stabilizer.classify(state);
+            switch (outcome) {
+                case SUCCEEDED:
+                    final Duration elapsed = Duration.between(startedAt, stabilizer.clock.instant());
+                    if (context.isStabilizationSeenInProgress()) {
+                        stabilizer.estimator.record(key, elapsed);
+                    }
+                    context.setStabilizationStartedAt(null);
+                    context.setStabilizationPollAt(null);
+                    context.setStabilizationSeenInProgress(false);
+                    logger.log(String.format("%s [%s] is in state %s, %s succeeded after %d seconds",
+                        stabilizer.typeName, resourceId, state, stabilizer.operation, elapsed.getSeconds()));
+                    return true;
+                case IN_PROGRESS:
+                    context.setStabilizationSeenInProgress(true);
+                    logger.log(String.format("%s [%s] is in state %s, %s in progress", stabilizer.typeName,
+                        resourceId, state, stabilizer.operation));
+                    return false;
+                default:
+                    logger.log(String.format("%s [%s] is in %s state %s, %s failed", stabilizer.typeName,
+                        resourceId, outcome == Outcome.FAILED ? "error" : "unexpected", state,
+                        stabilizer.operation));
+                    throw new CfnGeneralServiceException(String.format("Unexpected state %s",
+                        stabilizer.describe.apply(resource)));
+            }
+        }
+
+        private static int toCallbackDelaySeconds(final Duration wait) {
+            return (int) Math.max(1, (wait.toMillis() + 999) / 1000);
+        }
+
+        private Instant start() {
+            if (context.getStabilizationStartedAt() == null) {
+                context.setStabilizationStartedAt(stabilizer.clock.millis());
+                context.setStabilizationSeenInProgress(false);
+            }
+            final Instant startedAt = Instant.ofEpochMilli(context.getStabilizationStartedAt());
+            // A deferred stabilization keeps the schedule it was deferred with, even if the estimate moved since
+            if (context.getStabilizationPollAt() != null) {
+                delay.holdOffUntil(Instant.ofEpochMilli(context.getStabilizationPollAt()));
+            } else if (expected != null) {
+                delay.holdOffUntil(startedAt.plus(expected));
+            }
+            return startedAt;
+        }
+    }
+
+    public static final class Builder<ResourceT, StateT> {
+        private final String typeName;
+        private final Function<ResourceT, StateT> stateOf;
+        private final Function<ResourceT, String> describe;
+        private final Set<StateT> succeededStates = new HashSet<>();
+        private final Set<StateT> inProgressStates = new HashSet<>();
+        private final Set<StateT> failedStates = new HashSet<>();
+        private String operation = "stabilization";
+        private Duration initialDelay = Duration.ofSeconds(5);
+        private Duration maxDelay = Duration.ofSeconds(60);
+        private Duration timeout = Duration.ofHours(1);
+        private StabilizationEstimator estimator = StabilizationEstimator.shared();
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(final String typeName, final Function<ResourceT, StateT> stateOf,
+                        final Function<ResourceT, String> describe) {
+            this.typeName = typeName;
+            this.stateOf = stateOf;
+            this.describe = describe;
+        }
+
+        /**
+         * Name of the operation being stabilized, e.g. "creation", used in log lines and estimator keys.
+         */
+        public Builder<ResourceT, StateT> operation(final String operation) {
+            this.operation = operation;
+            return this;
+        }
+
+        @SafeVarargs
+        public final Builder<ResourceT, StateT> succeededOn(final StateT... states) {
+            succeededStates.addAll(Arrays.asList(states));
+            return this;
+        }
+
+        @SafeVarargs
+        public final Builder<ResourceT, StateT> inProgressOn(final StateT... states) {
+            inProgressStates.addAll(Arrays.asList(states));
+            return this;
+        }
+
+        @SafeVarargs
+        public final Builder<ResourceT, StateT> failedOn(final StateT... states) {
+            failedStates.addAll(Arrays.asList(states));
+            return this;
+        }
+
+        /**
+         * First polling interval and the cap it doubles up to.
+         */
+        public Builder<ResourceT, StateT> polling(final Duration initialDelay, final Duration maxDelay) {
+            this.initialDelay = initialDelay;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder<ResourceT, StateT> timeout(final Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        Builder<ResourceT, StateT> estimator(final StabilizationEstimator estimator) {
+            this.estimator = estimator;
+            return this;
+        }
+
+        Builder<ResourceT, StateT> clock(final Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public Stabilizer<ResourceT, StateT> build() {
+            return new Stabilizer<>(this);
+        }
+    }
+}
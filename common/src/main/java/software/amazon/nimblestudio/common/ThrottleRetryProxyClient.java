@@ -0,0 +1,101 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Retries reads the service throttles, such as stabilization polls and List calls, for as long as the invocation
+ * deadline leaves time for another attempt, so that a transient throttle does not fail the whole invocation. Retries
+ * back off with decorrelated jitter. Mutations are not retried here. Throttles are counted JVM-wide as absorbed when
+ * a retry follows and as surfaced when the throttle is handed to the caller.
+ */
+public final class ThrottleRetryProxyClient<ClientT> extends ForwardingProxyClient<ClientT> {
+
+    private static final Duration BASE_DELAY = Duration.ofMillis(200);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(10);
+
+    private static final AtomicLong ABSORBED = new AtomicLong();
+    private static final AtomicLong SURFACED = new AtomicLong();
+
+    private final InvocationDeadline deadline;
+    private final DoubleSupplier random;
+    private final Consumer<Duration> sleeper;
+
+    public ThrottleRetryProxyClient(final ProxyClient<ClientT> delegate, final InvocationDeadline deadline) {
+        this(delegate, deadline, () -> ThreadLocalRandom.current().nextDouble(), ThrottleRetryProxyClient::sleep);
+    }
+
+    ThrottleRetryProxyClient(final ProxyClient<ClientT> delegate, final InvocationDeadline deadline,
+                             final DoubleSupplier random, final Consumer<Duration> sleeper) {
+        super(delegate);
+        this.deadline = deadline;
+        this.random = random;
+        this.sleeper = sleeper;
+    }
+
+    public static String describeUsage() {
+        return String.format("absorbed %d throttle(s), surfaced %d", ABSORBED.get(), SURFACED.get());
+    }
+
+    static long absorbedCount() {
+        return ABSORBED.get();
+    }
+
+    static long surfacedCount() {
+        return SURFACED.get();
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        if (RateLimiter.OperationFamily.of(request) != RateLimiter.OperationFamily.READ) {
+            return super.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+
+        Duration delay = BASE_DELAY;
+        while (true) {
+            try {
+                return super.injectCredentialsAndInvokeV2(request, requestFunction);
+            } catch (final AwsServiceException e) {
+                if (!e.isThrottlingException()) {
+                    throw e;
+                }
+                delay = nextDelay(delay);
+                if (!deadline.canWait(delay)) {
+                    SURFACED.incrementAndGet();
+                    throw e;
+                }
+                ABSORBED.incrementAndGet();
+                sleeper.accept(delay);
+            }
+        }
+    }
+
+    /**
+     * Decorrelated jitter: a random delay between the base delay and three times the previous one, capped.
+     */
+    private Duration nextDelay(final Duration previous) {
+        final long base = BASE_DELAY.toMillis();
+        final long upper = Math.min(MAX_DELAY.toMillis(), previous.toMillis() * 3);
+        return Duration.ofMillis(base + (long) (random.getAsDouble() * (upper - base)));
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
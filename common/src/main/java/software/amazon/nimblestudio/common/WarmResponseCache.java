@@ -0,0 +1,86 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsResponse;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps settled Get responses across the invocations a warm handler JVM serves, so that a Read following a Create or
+ * Update, or the repeated Reads of a drift detection, don't all go to the service. Entries expire after a short time
+ * to bound how stale they can be, and the least recently used entry is evicted once the cache is full.
+ * <p>
+ * Entries are keyed by a path of account, region, studio and resource identifiers, see
+ * {@link WarmResponseCacheProxyClient}, so that everything below a studio can be invalidated at once.
+ */
+public final class WarmResponseCache {
+
+    private static final int CAPACITY = 512;
+    private static final Duration TTL = Duration.ofSeconds(15);
+
+    private static final WarmResponseCache SHARED = new WarmResponseCache(System::nanoTime, CAPACITY, TTL);
+
+    private final LongSupplier nanoTime;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    WarmResponseCache(final LongSupplier nanoTime, final int capacity, final Duration ttl) {
+        this.nanoTime = nanoTime;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @return the cache shared by every handler of the JVM
+     */
+    public static WarmResponseCache shared() {
+        return SHARED;
+    }
+
+    synchronized Optional<AwsResponse> get(final String key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (nanoTime.getAsLong() - entry.storedAt >= ttlNanos) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.response);
+    }
+
+    synchronized void put(final String key, final AwsResponse response) {
+        entries.put(key, new Entry(response, nanoTime.getAsLong()));
+    }
+
+    /**
+     * Drops every entry whose key starts with the prefix.
+     */
+    synchronized void invalidate(final String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final AwsResponse response;
+        private final long storedAt;
+
+        private Entry(final AwsResponse response, final long storedAt) {
+            this.response = response;
+            this.storedAt = storedAt;
+        }
+    }
+}
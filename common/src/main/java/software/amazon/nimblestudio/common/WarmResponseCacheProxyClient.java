@@ -0,0 +1,142 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Serves GetStudio, GetLaunchProfile, GetStudioComponent and GetStreamingImage from the {@link WarmResponseCache}, and
+ * stores the responses accepted by the predicate. Every other call that is not a Get or List is taken to change the
+ * resource it names, so the entries of that resource, or of the whole studio for a studio-level call, are dropped
+ * both before the call is made and once it returns, whoever cached them. A response is only served to the
+ * {@link CallerIdentity} that read it, and invocations without credentials bypass the cache. While a stabilization is
+ * running the cache is neither read nor written, as the state being waited for has to come from the service.
+ */
+public final class WarmResponseCacheProxyClient<ClientT> extends ForwardingProxyClient<ClientT> {
+
+    private static final Set<String> CACHED_OPERATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "GetStudio", "GetLaunchProfile", "GetStudioComponent", "GetStreamingImage")));
+
+    private static final String STUDIO_ID = "studioId";
+    private static final Set<String> RESOURCE_IDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+        "launchProfileId", "studioComponentId", "streamingImageId")));
+
+    private final WarmResponseCache cache;
+    private final String accountId;
+    private final String caller;
+    private final String region;
+    private final Predicate<AwsResponse> cacheable;
+    private final BooleanSupplier stabilizing;
+
+    /**
+     * @param caller      the {@link CallerIdentity} of the invocation, null when it has no credentials
+     * @param stabilizing tells whether the invocation is waiting for a resource to stabilize
+     */
+    public WarmResponseCacheProxyClient(final ProxyClient<ClientT> delegate, final WarmResponseCache cache,
+                                        final String accountId, final String caller,
+                                        final Predicate<AwsResponse> cacheable, final BooleanSupplier stabilizing) {
+        this(delegate, cache, accountId, caller, SdkSystemSetting.AWS_REGION.getStringValue().orElse(null), cacheable,
+            stabilizing);
+    }
+
+    WarmResponseCacheProxyClient(final ProxyClient<ClientT> delegate, final WarmResponseCache cache,
+                                 final String accountId, final String caller, final String region,
+                                 final Predicate<AwsResponse> cacheable, final BooleanSupplier stabilizing) {
+        super(delegate);
+        this.cache = cache;
+        this.accountId = accountId;
+        this.caller = caller;
+        this.region = region;
+        this.cacheable = cacheable;
+        this.stabilizing = stabilizing;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResponseT> requestFunction) {
+
+        if (RateLimiter.OperationFamily.of(request) == RateLimiter.OperationFamily.MUTATION) {
+            final String prefix = prefixOf(request);
+            cache.invalidate(prefix);
+            try {
+                return super.injectCredentialsAndInvokeV2(request, requestFunction);
+            } finally {
+                // Reads that raced the call may have stored what the resource looked like before it
+                cache.invalidate(prefix);
+            }
+        }
+
+        final String operation = operationOf(request);
+        if (!CACHED_OPERATIONS.contains(operation) || caller == null || stabilizing.getAsBoolean()) {
+            return super.injectCredentialsAndInvokeV2(request, requestFunction);
+        }
+
+        // Below the resource, so that a mutation drops what every caller cached of it
+        final String key = prefixOf(request) + caller + "/" + operation;
+        final Optional<AwsResponse> cached = cache.get(key);
+        if (cached.isPresent()) {
+            @SuppressWarnings("unchecked") final ResponseT response = (ResponseT) cached.get();
+            return response;
+        }
+
+        final ResponseT response = super.injectCredentialsAndInvokeV2(request, requestFunction);
+        if (cacheable.test(response)) {
+            cache.put(key, response);
+        }
+        return response;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(
+        final RequestT request,
+        final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+
+        if (RateLimiter.OperationFamily.of(request) == RateLimiter.OperationFamily.READ) {
+            return super.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        }
+
+        final String prefix = prefixOf(request);
+        cache.invalidate(prefix);
+        return super.injectCredentialsAndInvokeV2Async(request, requestFunction)
+            .whenComplete((response, e) -> cache.invalidate(prefix));
+    }
+
+    /**
+     * @return the key path of the resource the request is for, e.g. "account/region/studioId/launchProfileId/", which
+     * is shorter for a studio and for calls that name no studio at all
+     */
+    private String prefixOf(final AwsRequest request) {
+        final StringBuilder prefix = new StringBuilder()
+            .append(accountId).append('/')
+            .append(region).append('/');
+        final Optional<String> studioId = request.getValueForField(STUDIO_ID, String.class);
+        if (!studioId.isPresent()) {
+            return prefix.toString();
+        }
+        prefix.append(studioId.get()).append('/');
+        for (final String resourceId : RESOURCE_IDS) {
+            final Optional<String> id = request.getValueForField(resourceId, String.class);
+            if (id.isPresent()) {
+                return prefix.append(id.get()).append('/').toString();
+            }
+        }
+        return prefix.toString();
+    }
+
+    private static String operationOf(final AwsRequest request) {
+        return request.getClass().getSimpleName().replaceFirst("Request$", "");
+    }
+}
@@ -0,0 +1,98 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveDelayTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private AdaptiveDelay delay(final double random) {
+        return new AdaptiveDelay(Duration.ofSeconds(2), Duration.ofSeconds(20), Duration.ofMinutes(5), () -> random,
+            clock);
+    }
+
+    @Test
+    public void nextDelay_GrowsExponentiallyUpToCap() {
+        final AdaptiveDelay delay = delay(1.0);
+
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(16));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    public void nextDelay_JitterKeepsAtLeastHalf() {
+        final AdaptiveDelay delay = delay(0.0);
+
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(8));
+    }
+
+    @Test
+    public void nextDelay_ResetsWhenStateChanges() {
+        final AdaptiveDelay delay = delay(1.0);
+
+        delay.observe("CREATE_IN_PROGRESS");
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofSeconds(2));
+        delay.observe("CREATE_IN_PROGRESS");
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(4));
+        delay.observe("CREATE_IN_PROGRESS");
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(8));
+
+        delay.observe("UPDATE_IN_PROGRESS");
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(2));
+        delay.observe("UPDATE_IN_PROGRESS");
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(4));
+    }
+
+    @Test
+    public void nextDelay_StopsAfterTimeout() {
+        final AdaptiveDelay delay = delay(1.0);
+
+        // 2 + 4 + 8 + 16 + 20 * 13 = 290 seconds are scheduled before attempt 17 and 310 before attempt 18
+        assertThat(delay.nextDelay(17)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.nextDelay(18)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_WaitsOutHoldOffThenStartsOver() {
+        final AdaptiveDelay delay = delay(1.0);
+        delay.holdOffUntil(clock.instant().plusMillis(10_500));
+
+        assertThat(delay.isHoldingOff()).isTrue();
+        assertThat(delay.remainingHoldOff()).isEqualTo(Duration.ofMillis(10_500));
+        assertThat(delay.nextDelay(0)).isEqualTo(Duration.ofSeconds(11));
+
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(1));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(delay.isHoldingOff()).isFalse();
+        assertThat(delay.remainingHoldOff()).isEqualTo(Duration.ZERO);
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(4));
+    }
+
+    @Test
+    public void nextDelay_TimeoutAppliesWhileHoldingOff() {
+        final AdaptiveDelay delay = delay(1.0);
+        delay.holdOffUntil(clock.instant().plus(Duration.ofHours(1)));
+
+        assertThat(delay.nextDelay(18)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void nextDelay_DefaultRandomStaysWithinBounds() {
+        final AdaptiveDelay delay = new AdaptiveDelay(Duration.ofSeconds(2), Duration.ofSeconds(20),
+            Duration.ofMinutes(5));
+
+        assertThat(delay.nextDelay(1)).isBetween(Duration.ofSeconds(2), Duration.ofSeconds(4));
+    }
+}
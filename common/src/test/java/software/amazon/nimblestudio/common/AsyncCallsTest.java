@@ -0,0 +1,76 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.NimbleAsyncClient;
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.nimble.model.ValidationException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncCallsTest {
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    @Mock
+    private NimbleAsyncClient asyncClient;
+
+    private static <T> CompletableFuture<T> failed(final Throwable e) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    @Test
+    public void start_CallsTheAsyncClientThroughTheProxy() {
+        final GetStudioRequest request = GetStudioRequest.builder().studioId("studioId").build();
+        final GetStudioResponse response = GetStudioResponse.builder().build();
+        when(asyncClient.getStudio(request)).thenReturn(CompletableFuture.completedFuture(response));
+        when(proxyClient.injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any()))
+            .thenAnswer(invocation -> invocation
+                .<Function<GetStudioRequest, CompletableFuture<GetStudioResponse>>>getArgument(1)
+                .apply(invocation.getArgument(0)));
+
+        final CompletableFuture<GetStudioResponse> call =
+            AsyncCalls.start(proxyClient, request, NimbleAsyncClient::getStudio, () -> asyncClient);
+
+        assertThat(call.join()).isSameAs(response);
+    }
+
+    @Test
+    public void joinAll_ReturnsResultsInOrder() {
+        assertThat(AsyncCalls.joinAll(Arrays.asList(
+            CompletableFuture.completedFuture("first"),
+            CompletableFuture.supplyAsync(() -> "second"))))
+            .containsExactly("first", "second");
+    }
+
+    @Test
+    public void joinAll_RethrowsFirstFailureAfterAllComplete() {
+        final CompletableFuture<String> slow = new CompletableFuture<>();
+        final CompletableFuture<String> fails = failed(ValidationException.builder().statusCode(400).build());
+        final CompletableFuture<String> failsLater =
+            failed(ResourceNotFoundException.builder().statusCode(404).build());
+        CompletableFuture.runAsync(() -> slow.complete("done"));
+
+        assertThrows(ValidationException.class, () -> AsyncCalls.joinAll(Arrays.asList(slow, fails, failsLater)));
+
+        assertThat(slow).isCompleted();
+    }
+}
@@ -0,0 +1,28 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.cloudformation.proxy.Credentials;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallerIdentityTest {
+
+    @Test
+    public void of_DigestsTheAccessKey() {
+        final String caller = CallerIdentity.of("123456789012", new Credentials("accessKey", "secretKey", "token"))
+            .orElseThrow(IllegalStateException::new);
+
+        assertThat(caller).startsWith("123456789012/").doesNotContain("accessKey");
+        assertThat(CallerIdentity.of("123456789012", new Credentials("accessKey", "otherSecretKey", "otherToken")))
+            .contains(caller);
+        assertThat(CallerIdentity.of("123456789012", new Credentials("otherAccessKey", "secretKey", "token")))
+            .isNotEqualTo(CallerIdentity.of("123456789012", new Credentials("accessKey", "secretKey", "token")));
+    }
+
+    @Test
+    public void of_EmptyWithoutCredentials() {
+        assertThat(CallerIdentity.of("123456789012", null)).isEmpty();
+        assertThat(CallerIdentity.of("123456789012", new Credentials(null, null, null))).isEmpty();
+    }
+}
@@ -0,0 +1,171 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.InternalServerErrorException;
+import software.amazon.awssdk.services.nimble.model.ListStudiosRequest;
+import software.amazon.awssdk.services.nimble.model.ListStudiosResponse;
+import software.amazon.awssdk.services.nimble.model.ValidationException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CircuitBreakerProxyClientTest {
+
+    private static final GetStudioRequest GET_REQUEST = GetStudioRequest.builder().studioId("studioId").build();
+    private static final String GET_KEY = "123456789012/us-west-2/GetStudio";
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final MutableClock clock = new MutableClock();
+
+    private CircuitBreaker circuitBreaker;
+    private CircuitBreakerProxyClient<NimbleClient> client;
+
+    @BeforeEach
+    public void setup() {
+        circuitBreaker = new CircuitBreaker(nanoTime::get);
+        client = new CircuitBreakerProxyClient<>(proxyClient, circuitBreaker, "123456789012", "us-west-2",
+            new InvocationDeadline(clock, Duration.ofMinutes(15)));
+    }
+
+    private static InternalServerErrorException internalError() {
+        return InternalServerErrorException.builder().statusCode(500).build();
+    }
+
+    @Test
+    public void failsFastOnceTripped() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any())).thenThrow(internalError());
+
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            assertThrows(InternalServerErrorException.class,
+                () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+        }
+
+        final CfnServiceInternalErrorException e = assertThrows(CfnServiceInternalErrorException.class,
+            () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+        assertThat(e.getMessage()).contains("GetStudio").contains("123456789012/us-west-2");
+        Mockito.verify(proxyClient, Mockito.times(CircuitBreaker.FAILURE_THRESHOLD))
+            .injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+    }
+
+    @Test
+    public void closesAfterSuccessfulTrial() {
+        final GetStudioResponse response = GetStudioResponse.builder().build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any())).thenReturn(response);
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            circuitBreaker.onFailure(GET_KEY);
+        }
+        nanoTime.addAndGet(CircuitBreaker.OPEN_DURATION.toNanos());
+
+        assertThat(client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null)).isSameAs(response);
+
+        assertThat(circuitBreaker.state(GET_KEY)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void countsOnlyOutageFailures() {
+        assertThat(CircuitBreakerProxyClient.isFailure(internalError())).isTrue();
+        assertThat(CircuitBreakerProxyClient.isFailure(ApiCallAttemptTimeoutException.create(1000))).isTrue();
+        assertThat(CircuitBreakerProxyClient.isFailure(
+            SdkClientException.builder().cause(new IOException()).build())).isTrue();
+        assertThat(CircuitBreakerProxyClient.isFailure(ValidationException.builder().statusCode(400).build()))
+            .isFalse();
+
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenThrow(ValidationException.builder().statusCode(400).build());
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            assertThrows(ValidationException.class, () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+        }
+        assertThat(circuitBreaker.state(GET_KEY)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void countsTimeoutsOnlyWithConfiguredTimeouts() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenThrow(ApiCallTimeoutException.create(60000));
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            assertThrows(ApiCallTimeoutException.class,
+                () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+        }
+        assertThat(circuitBreaker.state(GET_KEY)).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    public void ignoresTimeoutsShortenedByTheDeadline() {
+        clock.advance(Duration.ofMinutes(14));
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenThrow(ApiCallAttemptTimeoutException.create(1000));
+
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            assertThrows(ApiCallAttemptTimeoutException.class,
+                () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+        }
+        assertThat(circuitBreaker.state(GET_KEY)).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // A shortened trial call neither closes nor reopens the circuit, and leaves the trial to the next call
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            circuitBreaker.onFailure(GET_KEY);
+        }
+        nanoTime.addAndGet(CircuitBreaker.OPEN_DURATION.toNanos());
+        assertThrows(ApiCallAttemptTimeoutException.class,
+            () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+        assertThat(circuitBreaker.state(GET_KEY)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire(GET_KEY)).isTrue();
+    }
+
+    @Test
+    public void recordsAsyncOutcomes() {
+        final CompletableFuture<GetStudioResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(internalError());
+        when(proxyClient.injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any())).thenReturn(failed);
+
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            assertThat(client.injectCredentialsAndInvokeV2Async(GET_REQUEST, r -> null)).isCompletedExceptionally();
+        }
+
+        assertThat(circuitBreaker.state(GET_KEY)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThrows(CfnServiceInternalErrorException.class,
+            () -> client.injectCredentialsAndInvokeV2Async(GET_REQUEST, r -> null));
+    }
+
+    @Test
+    public void rejectsIterableCallsWhileOpen() {
+        @SuppressWarnings("unchecked") final SdkIterable<ListStudiosResponse> pages = mock(SdkIterable.class);
+        when(proxyClient.injectCredentialsAndInvokeIterableV2(any(ListStudiosRequest.class), any())).thenReturn(pages);
+        final ListStudiosRequest request = ListStudiosRequest.builder().build();
+
+        assertThat(client.injectCredentialsAndInvokeIterableV2(request, r -> pages)).isSameAs(pages);
+
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            circuitBreaker.onFailure("123456789012/us-west-2/ListStudios");
+        }
+        assertThrows(CfnServiceInternalErrorException.class,
+            () -> client.injectCredentialsAndInvokeIterableV2(request, r -> pages));
+    }
+}
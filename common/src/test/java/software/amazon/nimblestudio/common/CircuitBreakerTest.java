@@ -0,0 +1,85 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CircuitBreakerTest {
+
+    private static final String KEY = "us-west-2/GetStudio";
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    public void setup() {
+        circuitBreaker = new CircuitBreaker(nanoTime::get);
+    }
+
+    private void trip() {
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            assertThat(circuitBreaker.tryAcquire(KEY)).isTrue();
+            circuitBreaker.onFailure(KEY);
+        }
+    }
+
+    private void waitOutOpenDuration() {
+        nanoTime.addAndGet(CircuitBreaker.OPEN_DURATION.toNanos());
+    }
+
+    @Test
+    public void opensAfterConsecutiveFailures() {
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD - 1; i++) {
+            circuitBreaker.onFailure(KEY);
+        }
+        circuitBreaker.onSuccess(KEY);
+        circuitBreaker.onFailure(KEY);
+        assertThat(circuitBreaker.state(KEY)).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        trip();
+
+        assertThat(circuitBreaker.state(KEY)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.isOpen(KEY)).isTrue();
+        assertThat(circuitBreaker.tryAcquire(KEY)).isFalse();
+        // Other operations and regions have circuits of their own
+        assertThat(circuitBreaker.tryAcquire("us-west-2/ListStudios")).isTrue();
+        assertThat(circuitBreaker.tryAcquire("us-east-1/GetStudio")).isTrue();
+    }
+
+    @Test
+    public void letsOneTrialThroughWhenHalfOpen() {
+        trip();
+        waitOutOpenDuration();
+
+        assertThat(circuitBreaker.isOpen(KEY)).isFalse();
+        assertThat(circuitBreaker.tryAcquire(KEY)).isTrue();
+        assertThat(circuitBreaker.state(KEY)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire(KEY)).isFalse();
+
+        circuitBreaker.onSuccess(KEY);
+
+        assertThat(circuitBreaker.state(KEY)).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire(KEY)).isTrue();
+    }
+
+    @Test
+    public void reopensWhenTrialFails() {
+        trip();
+        waitOutOpenDuration();
+
+        assertThat(circuitBreaker.tryAcquire(KEY)).isTrue();
+        circuitBreaker.onFailure(KEY);
+
+        assertThat(circuitBreaker.state(KEY)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire(KEY)).isFalse();
+    }
+
+    @Test
+    public void shared_IsSingleInstance() {
+        assertThat(CircuitBreaker.shared()).isSameAs(CircuitBreaker.shared());
+    }
+}
@@ -0,0 +1,88 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.services.nimble.NimbleClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ClientHolderTest {
+
+    private final AtomicReference<String> region = new AtomicReference<>("us-west-2");
+    private final List<NimbleClient> builtClients = new ArrayList<>();
+
+    private ClientHolder<NimbleClient> holder;
+
+    @BeforeEach
+    public void setup() {
+        holder = new ClientHolder<>(region::get, configuration -> {
+            final NimbleClient client = mock(NimbleClient.class);
+            builtClients.add(client);
+            return client;
+        });
+    }
+
+    @Test
+    public void get_BuildsLazilyAndReuses() {
+        final ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder().build();
+
+        assertThat(builtClients).isEmpty();
+
+        final NimbleClient first = holder.get(configuration);
+        final NimbleClient second = holder.get(configuration);
+
+        assertThat(second).isSameAs(first);
+        assertThat(builtClients).hasSize(1);
+        assertThat(holder.getBuildCount()).isEqualTo(1);
+        assertThat(holder.getReuseCount()).isEqualTo(1);
+        assertThat(holder.describeUsage()).isEqualTo("built 1 time(s), reused 1 time(s)");
+        verify(first, never()).close();
+    }
+
+    @Test
+    public void get_RebuildsWhenRegionChanges() {
+        final ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder().build();
+
+        final NimbleClient first = holder.get(configuration);
+        region.set("eu-west-1");
+        final NimbleClient second = holder.get(configuration);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(holder.getBuildCount()).isEqualTo(2);
+        assertThat(holder.getReuseCount()).isEqualTo(0);
+        verify(first, never()).close();
+    }
+
+    @Test
+    public void get_RebuildsWhenConfigurationChanges() {
+        final NimbleClient first = holder.get(ClientOverrideConfiguration.builder().build());
+        final NimbleClient second = holder.get(ClientOverrideConfiguration.builder()
+            .apiCallTimeout(Duration.ofSeconds(30))
+            .build());
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(holder.getBuildCount()).isEqualTo(2);
+        verify(first, never()).close();
+    }
+
+    @Test
+    public void get_NoRegion() {
+        region.set(null);
+        final ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder().build();
+
+        final NimbleClient first = holder.get(configuration);
+
+        assertThat(holder.get(configuration)).isSameAs(first);
+        assertThat(holder.getBuildCount()).isEqualTo(1);
+    }
+}
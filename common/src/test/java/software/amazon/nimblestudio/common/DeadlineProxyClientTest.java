@@ -0,0 +1,73 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.ListStudiosRequest;
+import software.amazon.awssdk.services.nimble.model.ListStudiosResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class DeadlineProxyClientTest {
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private DeadlineProxyClient<NimbleClient> deadlineProxyClient;
+
+    @BeforeEach
+    public void setup() {
+        deadlineProxyClient = new DeadlineProxyClient<>(proxyClient,
+            new InvocationDeadline(new MutableClock(), Duration.ofSeconds(20)));
+    }
+
+    private static boolean isBounded(final GetStudioRequest request) {
+        return request.overrideConfiguration()
+            .flatMap(c -> c.apiCallTimeout())
+            .map(Duration.ofSeconds(15)::equals)
+            .orElse(false);
+    }
+
+    @Test
+    public void boundsEveryCall() {
+        final GetStudioRequest request = GetStudioRequest.builder().studioId("studioId").build();
+        final GetStudioResponse response = GetStudioResponse.builder().build();
+        final CompletableFuture<GetStudioResponse> future = CompletableFuture.completedFuture(response);
+        @SuppressWarnings("unchecked") final SdkIterable<ListStudiosResponse> pages = mock(SdkIterable.class);
+
+        // The delegate hands the request to the function as it would after injecting credentials
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenAnswer(invocation -> invocation.<Function<GetStudioRequest, GetStudioResponse>>getArgument(1)
+                .apply(invocation.getArgument(0)));
+        when(proxyClient.injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any()))
+            .thenAnswer(invocation -> invocation.<Function<GetStudioRequest, CompletableFuture<GetStudioResponse>>>
+                getArgument(1).apply(invocation.getArgument(0)));
+        when(proxyClient.injectCredentialsAndInvokeIterableV2(any(ListStudiosRequest.class), any()))
+            .thenAnswer(invocation -> invocation.<Function<ListStudiosRequest, SdkIterable<ListStudiosResponse>>>
+                getArgument(1).apply(invocation.getArgument(0)));
+
+        assertThat(deadlineProxyClient.injectCredentialsAndInvokeV2(request,
+            r -> isBounded(r) ? response : null)).isSameAs(response);
+        assertThat(deadlineProxyClient.injectCredentialsAndInvokeV2Async(request,
+            r -> isBounded(r) ? future : null)).isSameAs(future);
+        assertThat(deadlineProxyClient.injectCredentialsAndInvokeIterableV2(ListStudiosRequest.builder().build(),
+            r -> r.overrideConfiguration().flatMap(c -> c.apiCallTimeout()).isPresent() ? pages : null))
+            .isSameAs(pages);
+    }
+}
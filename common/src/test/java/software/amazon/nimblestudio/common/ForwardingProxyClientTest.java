@@ -0,0 +1,71 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.ListStudiosRequest;
+import software.amazon.awssdk.services.nimble.model.ListStudiosResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ForwardingProxyClientTest {
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private ForwardingProxyClient<NimbleClient> forwarding;
+
+    @BeforeEach
+    public void setup() {
+        forwarding = new ForwardingProxyClient<NimbleClient>(proxyClient) {
+        };
+    }
+
+    @Test
+    public void forwardsEveryCall() {
+        final NimbleClient nimbleClient = mock(NimbleClient.class);
+        final GetStudioRequest request = GetStudioRequest.builder().studioId("studioId").build();
+        final GetStudioResponse response = GetStudioResponse.builder().build();
+        final CompletableFuture<GetStudioResponse> future = CompletableFuture.completedFuture(response);
+        @SuppressWarnings("unchecked") final SdkIterable<ListStudiosResponse> pages = mock(SdkIterable.class);
+        @SuppressWarnings("unchecked") final ResponseInputStream<GetStudioResponse> stream =
+            mock(ResponseInputStream.class);
+        final ResponseBytes<GetStudioResponse> bytes = ResponseBytes.fromByteArray(response, new byte[0]);
+
+        when(proxyClient.client()).thenReturn(nimbleClient);
+        Mockito.doReturn(response).when(proxyClient).injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+        Mockito.doReturn(future).when(proxyClient)
+            .injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any());
+        Mockito.doReturn(pages).when(proxyClient)
+            .injectCredentialsAndInvokeIterableV2(any(ListStudiosRequest.class), any());
+        Mockito.doReturn(stream).when(proxyClient)
+            .injectCredentialsAndInvokeV2InputStream(any(GetStudioRequest.class), any());
+        Mockito.doReturn(bytes).when(proxyClient).injectCredentialsAndInvokeV2Bytes(any(GetStudioRequest.class), any());
+
+        assertThat(forwarding.client()).isSameAs(nimbleClient);
+        assertThat(forwarding.delegate()).isSameAs(proxyClient);
+        assertThat(forwarding.injectCredentialsAndInvokeV2(request, r -> response)).isSameAs(response);
+        assertThat(forwarding.injectCredentialsAndInvokeV2Async(request, r -> future)).isSameAs(future);
+        assertThat(forwarding.injectCredentialsAndInvokeIterableV2(ListStudiosRequest.builder().build(), r -> pages))
+            .isSameAs(pages);
+        assertThat(forwarding.injectCredentialsAndInvokeV2InputStream(request, r -> stream)).isSameAs(stream);
+        assertThat(forwarding.injectCredentialsAndInvokeV2Bytes(request, r -> bytes)).isSameAs(bytes);
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HedgingPolicyTest {
+
+    private final HedgingPolicy policy = new HedgingPolicy();
+
+    @Test
+    public void hedgeAfter_WaitsForEnoughSamples() {
+        for (int i = 1; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            policy.record("GetStudio", Duration.ofMillis(i));
+        }
+        assertThat(policy.hedgeAfter("GetStudio")).isEqualTo(Optional.empty());
+
+        policy.record("GetStudio", Duration.ofMillis(HedgingPolicy.MIN_SAMPLES));
+
+        assertThat(policy.hedgeAfter("GetStudio")).isEqualTo(Optional.of(Duration.ofMillis(19)));
+        assertThat(policy.hedgeAfter("GetLaunchProfile")).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    public void hedgeAfter_FollowsRecentLatencies() {
+        for (int i = 0; i < HedgingPolicy.WINDOW; i++) {
+            policy.record("GetStudio", Duration.ofSeconds(5));
+        }
+        for (int i = 0; i < HedgingPolicy.WINDOW; i++) {
+            policy.record("GetStudio", Duration.ofMillis(100));
+        }
+
+        assertThat(policy.hedgeAfter("GetStudio")).isEqualTo(Optional.of(Duration.ofMillis(100)));
+    }
+
+    @Test
+    public void tryHedge_IsBudgetedByCalls() {
+        assertThat(policy.tryHedge()).isFalse();
+
+        for (int i = 0; i < HedgingPolicy.CALLS_PER_HEDGE; i++) {
+            policy.onCall();
+        }
+        assertThat(policy.tryHedge()).isTrue();
+        assertThat(policy.tryHedge()).isFalse();
+
+        for (int i = 0; i < 1000; i++) {
+            policy.onCall();
+        }
+        for (int i = 0; i < HedgingPolicy.MAX_HEDGES; i++) {
+            assertThat(policy.tryHedge()).isTrue();
+        }
+        assertThat(policy.tryHedge()).isFalse();
+    }
+
+    @Test
+    public void shared_IsSingleInstance() {
+        assertThat(HedgingPolicy.shared()).isSameAs(HedgingPolicy.shared());
+    }
+}
@@ -0,0 +1,165 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.Studio;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioRequest;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioResponse;
+import software.amazon.awssdk.services.nimble.model.ValidationException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class HedgingProxyClientTest {
+
+    private static final GetStudioRequest GET_REQUEST = GetStudioRequest.builder().studioId("studioId").build();
+    private static final GetStudioResponse SLOW_RESPONSE = GetStudioResponse.builder()
+        .studio(Studio.builder().studioId("slow").build()).build();
+    private static final GetStudioResponse FAST_RESPONSE = GetStudioResponse.builder()
+        .studio(Studio.builder().studioId("fast").build()).build();
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private ExecutorService executor;
+    private HedgingPolicy policy;
+    private HedgingProxyClient<NimbleClient> client;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        policy = new HedgingPolicy();
+        client = new HedgingProxyClient<>(proxyClient, policy, executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private void learnLatency(final Duration latency) {
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            policy.record("GetStudio", latency);
+        }
+    }
+
+    private void earnHedges(final int hedges) {
+        for (int i = 0; i < hedges * HedgingPolicy.CALLS_PER_HEDGE; i++) {
+            policy.onCall();
+        }
+    }
+
+    /**
+     * The first call blocks until released; later calls answer right away.
+     */
+    private void stubSlowFirstCall() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                release.await(10, TimeUnit.SECONDS);
+                return SLOW_RESPONSE;
+            }
+            return FAST_RESPONSE;
+        });
+    }
+
+    @Test
+    public void callsDirectlyWithoutLatencies() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any())).thenReturn(FAST_RESPONSE);
+
+        assertThat(client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null)).isSameAs(FAST_RESPONSE);
+
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+        assertThat(policy.hedgeAfter("GetStudio")).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    public void hedgesSlowGets() {
+        stubSlowFirstCall();
+        learnLatency(Duration.ofMillis(10));
+        earnHedges(1);
+
+        assertThat(client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null)).isSameAs(FAST_RESPONSE);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void callsOnTheCallingThreadWithoutHedgeBudget() {
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger callsOnCaller = new AtomicInteger();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any())).thenAnswer(invocation -> {
+            if (Thread.currentThread() == caller) {
+                callsOnCaller.incrementAndGet();
+            }
+            return FAST_RESPONSE;
+        });
+        learnLatency(Duration.ofSeconds(10));
+        earnHedges(1);
+
+        // The first Get spends the hedge although it answers fast, the second has none left
+        assertThat(client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null)).isSameAs(FAST_RESPONSE);
+        assertThat(client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null)).isSameAs(FAST_RESPONSE);
+
+        assertThat(callsOnCaller.get()).isEqualTo(1);
+        assertThat(policy.tryHedge()).isFalse();
+    }
+
+    @Test
+    public void failsOnlyWhenBothCallsFail() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            throw ValidationException.builder().statusCode(400).message("call " + calls.get()).build();
+        });
+        learnLatency(Duration.ofMillis(10));
+        earnHedges(1);
+        executor.submit(() -> {
+            Thread.sleep(100);
+            release.countDown();
+            return null;
+        });
+
+        assertThrows(ValidationException.class, () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void neverHedgesMutations() {
+        final UpdateStudioRequest request = UpdateStudioRequest.builder().studioId("studioId").build();
+        final UpdateStudioResponse response = UpdateStudioResponse.builder().build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any())).thenReturn(response);
+        earnHedges(1);
+
+        assertThat(client.injectCredentialsAndInvokeV2(request, r -> null)).isSameAs(response);
+
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
+        assertThat(policy.tryHedge()).isTrue();
+    }
+}
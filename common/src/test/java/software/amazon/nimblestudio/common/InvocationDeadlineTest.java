@@ -0,0 +1,113 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class InvocationDeadlineTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final Logger logger = mock(Logger.class);
+
+    private static AwsRequestOverrideConfiguration overrideConfigurationOf(final GetStudioRequest request) {
+        return request.overrideConfiguration().orElseThrow(IllegalStateException::new);
+    }
+
+    @Test
+    public void remaining_KeepsReserveAndCountsDown() {
+        final InvocationDeadline deadline = new InvocationDeadline(clock, Duration.ofSeconds(60));
+
+        assertThat(deadline.remaining()).isEqualTo(Duration.ofSeconds(55));
+        assertThat(deadline.isNear()).isFalse();
+
+        clock.advance(Duration.ofSeconds(46));
+        assertThat(deadline.remaining()).isEqualTo(Duration.ofSeconds(9));
+        assertThat(deadline.isNear()).isTrue();
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(deadline.remaining()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void canWait_LeavesTimeForAnAttempt() {
+        final InvocationDeadline deadline = new InvocationDeadline(clock, Duration.ofSeconds(60));
+
+        assertThat(deadline.canWait(Duration.ofSeconds(45))).isTrue();
+        assertThat(deadline.canWait(Duration.ofSeconds(46))).isFalse();
+    }
+
+    @Test
+    public void shortensTimeouts_OnceLessThanTheTotalTimeoutRemains() {
+        final InvocationDeadline deadline = new InvocationDeadline(clock, Duration.ofSeconds(65));
+
+        assertThat(deadline.shortensTimeouts()).isFalse();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(deadline.shortensTimeouts()).isTrue();
+    }
+
+    @Test
+    public void bound_SetsTimeoutsAndKeepsOverrides() {
+        final InvocationDeadline deadline = new InvocationDeadline(clock, Duration.ofMinutes(15));
+        final GetStudioRequest request = GetStudioRequest.builder()
+            .studioId("studioId")
+            .overrideConfiguration(c -> c.putHeader("header", "value"))
+            .build();
+
+        final GetStudioRequest bounded = deadline.bound(request);
+
+        assertThat(bounded.studioId()).isEqualTo("studioId");
+        assertThat(overrideConfigurationOf(bounded).apiCallTimeout()).contains(Duration.ofMinutes(1));
+        assertThat(overrideConfigurationOf(bounded).apiCallAttemptTimeout()).contains(Duration.ofSeconds(10));
+        assertThat(overrideConfigurationOf(bounded).headers()).containsKey("header");
+    }
+
+    @Test
+    public void bound_ShrinksTimeoutsTowardsDeadline() {
+        final InvocationDeadline deadline = new InvocationDeadline(clock, Duration.ofSeconds(12));
+        final GetStudioRequest request = GetStudioRequest.builder().studioId("studioId").build();
+
+        assertThat(overrideConfigurationOf(deadline.bound(request)).apiCallTimeout()).contains(Duration.ofSeconds(7));
+        assertThat(overrideConfigurationOf(deadline.bound(request)).apiCallAttemptTimeout())
+            .contains(Duration.ofSeconds(7));
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(overrideConfigurationOf(deadline.bound(request)).apiCallTimeout()).contains(Duration.ofSeconds(1));
+    }
+
+    // Reads a private field of the plugin, so this fails the build as soon as a plugin version renames or retypes it
+    @Test
+    public void remainingTimeOf_ReadsProxyOfPluginVersion() throws NoSuchFieldException {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+            new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofSeconds(600).toMillis());
+
+        assertThat(AmazonWebServicesClientProxy.class.getDeclaredField(InvocationDeadline.REMAINING_TIME_FIELD)
+            .getType()).isEqualTo(Supplier.class);
+        assertThat(InvocationDeadline.remainingTimeOf(proxy, logger)).isEqualTo(Duration.ofSeconds(600));
+        assertThat(InvocationDeadline.of(proxy, logger).remaining())
+            .isBetween(Duration.ofSeconds(590), Duration.ofSeconds(595));
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    public void remainingTimeOf_FallsBackWhenUnreadable() {
+        assertThat(InvocationDeadline.remainingTimeOf(mock(AmazonWebServicesClientProxy.class), logger))
+            .isEqualTo(Duration.ofMinutes(1));
+        verify(logger).log(startsWith("WARNING: could not read the remaining invocation time from "
+            + "AmazonWebServicesClientProxy.remainingTimeInMillis"));
+    }
+}
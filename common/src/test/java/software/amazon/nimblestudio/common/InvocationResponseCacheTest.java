@@ -0,0 +1,125 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
+import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.LaunchProfile;
+import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
+import software.amazon.awssdk.services.nimble.model.ListLaunchProfilesRequest;
+import software.amazon.awssdk.services.nimble.model.ListLaunchProfilesResponse;
+import software.amazon.awssdk.services.nimble.model.UpdateLaunchProfileRequest;
+import software.amazon.awssdk.services.nimble.model.UpdateLaunchProfileResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class InvocationResponseCacheTest {
+
+    private static final GetLaunchProfileRequest GET_REQUEST = GetLaunchProfileRequest.builder()
+        .studioId("studioId")
+        .launchProfileId("launchProfileId")
+        .build();
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private InvocationResponseCache<NimbleClient> cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new InvocationResponseCache<>(proxyClient, response -> response instanceof GetLaunchProfileResponse
+            && ((GetLaunchProfileResponse) response).launchProfile().state() == LaunchProfileState.READY);
+    }
+
+    private static GetLaunchProfileResponse getResponse(final LaunchProfileState state) {
+        return GetLaunchProfileResponse.builder()
+            .launchProfile(LaunchProfile.builder().launchProfileId("launchProfileId").state(state).build())
+            .build();
+    }
+
+    private GetLaunchProfileResponse get(final GetLaunchProfileRequest request) {
+        return cache.injectCredentialsAndInvokeV2(request, r -> null);
+    }
+
+    @Test
+    public void get_ReusesCacheableResponse() {
+        final GetLaunchProfileResponse ready = getResponse(LaunchProfileState.READY);
+        Mockito.doReturn(ready).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+
+        assertThat(get(GET_REQUEST)).isSameAs(ready);
+        assertThat(get(GET_REQUEST.toBuilder().build())).isSameAs(ready);
+
+        verify(proxyClient, times(1)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_DifferentRequestIsNotServedFromCache() {
+        Mockito.doReturn(getResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+
+        get(GET_REQUEST);
+        get(GET_REQUEST.toBuilder().launchProfileId("otherLaunchProfileId").build());
+
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        assertThat(cache.getHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void get_TransitioningResponseIsNotCached() {
+        final GetLaunchProfileResponse inProgress = getResponse(LaunchProfileState.UPDATE_IN_PROGRESS);
+        final GetLaunchProfileResponse ready = getResponse(LaunchProfileState.READY);
+        Mockito.doReturn(inProgress, ready).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+
+        assertThat(get(GET_REQUEST)).isSameAs(inProgress);
+        assertThat(get(GET_REQUEST)).isSameAs(ready);
+        assertThat(get(GET_REQUEST)).isSameAs(ready);
+
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void mutation_InvalidatesCache() {
+        Mockito.doReturn(getResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        Mockito.doReturn(UpdateLaunchProfileResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
+
+        get(GET_REQUEST);
+        cache.injectCredentialsAndInvokeV2(UpdateLaunchProfileRequest.builder().build(), r -> null);
+        get(GET_REQUEST);
+
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void list_PassesThroughWithoutInvalidating() {
+        Mockito.doReturn(getResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        Mockito.doReturn(ListLaunchProfilesResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListLaunchProfilesRequest.class), any());
+
+        final ListLaunchProfilesRequest listRequest = ListLaunchProfilesRequest.builder().studioId("studioId").build();
+
+        get(GET_REQUEST);
+        cache.injectCredentialsAndInvokeV2(listRequest, r -> null);
+        cache.injectCredentialsAndInvokeV2(listRequest, r -> null);
+        get(GET_REQUEST);
+
+        verify(proxyClient, times(1)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(ListLaunchProfilesRequest.class), any());
+    }
+}
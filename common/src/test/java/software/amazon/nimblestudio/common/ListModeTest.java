@@ -0,0 +1,35 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListModeTest {
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(ListMode.PROPERTY);
+    }
+
+    @Test
+    public void of_ParsesModes() {
+        assertThat(ListMode.of("IDENTIFIERS_ONLY")).isEqualTo(ListMode.IDENTIFIERS_ONLY);
+        assertThat(ListMode.of(" identifiers_only ")).isEqualTo(ListMode.IDENTIFIERS_ONLY);
+        assertThat(ListMode.of("full")).isEqualTo(ListMode.FULL);
+    }
+
+    @Test
+    public void of_DefaultsToFull() {
+        assertThat(ListMode.of(null)).isEqualTo(ListMode.FULL);
+        assertThat(ListMode.of("")).isEqualTo(ListMode.FULL);
+        assertThat(ListMode.of("ids")).isEqualTo(ListMode.FULL);
+    }
+
+    @Test
+    public void configured_ReadsSystemProperty() {
+        System.setProperty(ListMode.PROPERTY, "IDENTIFIERS_ONLY");
+
+        assertThat(ListMode.configured()).isEqualTo(ListMode.IDENTIFIERS_ONLY);
+    }
+}
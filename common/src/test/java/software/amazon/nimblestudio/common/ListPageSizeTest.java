@@ -0,0 +1,79 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListPageSizeTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final ListPageSize listPageSize = new ListPageSize(nanoTime::get);
+
+    // The deadline holds five seconds back, which leaves the given time for work
+    private static InvocationDeadline deadline(final Duration remaining) {
+        return new InvocationDeadline(CLOCK, remaining.plusSeconds(5));
+    }
+
+    @Test
+    public void pageSize_LargestUntilMeasured() {
+        assertThat(listPageSize.pageSize("key", deadline(Duration.ofSeconds(60))))
+            .isEqualTo(ListPageSize.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    public void pageSize_FitsTranslationInRemainingTime() {
+        listPageSize.record("key", 10, Duration.ofSeconds(5));
+
+        // Half of the 60 seconds left at half a second per item
+        assertThat(listPageSize.pageSize("key", deadline(Duration.ofSeconds(60)))).isEqualTo(60);
+        assertThat(listPageSize.pageSize("other key", deadline(Duration.ofSeconds(60))))
+            .isEqualTo(ListPageSize.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    public void pageSize_Bounded() {
+        listPageSize.record("slow", 1, Duration.ofMinutes(1));
+        listPageSize.record("fast", 1000, Duration.ofMillis(1));
+
+        assertThat(listPageSize.pageSize("slow", deadline(Duration.ofSeconds(60))))
+            .isEqualTo(ListPageSize.MIN_PAGE_SIZE);
+        assertThat(listPageSize.pageSize("fast", deadline(Duration.ofSeconds(60))))
+            .isEqualTo(ListPageSize.MAX_PAGE_SIZE);
+        assertThat(listPageSize.pageSize("fast", deadline(Duration.ofSeconds(1))))
+            .isEqualTo(ListPageSize.MIN_PAGE_SIZE);
+    }
+
+    @Test
+    public void record_SmoothsSamples() {
+        listPageSize.record("key", 1, Duration.ofSeconds(1));
+        listPageSize.record("key", 1, Duration.ofSeconds(6));
+
+        // 1s + 0.2 * (6s - 1s) = 2s per item, 30s budget
+        assertThat(listPageSize.pageSize("key", deadline(Duration.ofSeconds(60)))).isEqualTo(15);
+    }
+
+    @Test
+    public void translate_MeasuresThePage() {
+        assertThat(listPageSize.translate("key", () -> {
+            nanoTime.addAndGet(Duration.ofSeconds(2).toNanos());
+            return Arrays.asList("a", "b");
+        })).containsExactly("a", "b");
+
+        // One second per item, 30s budget
+        assertThat(listPageSize.pageSize("key", deadline(Duration.ofSeconds(60)))).isEqualTo(30);
+    }
+
+    @Test
+    public void shared_IsSingleInstance() {
+        assertThat(ListPageSize.shared()).isSameAs(ListPageSize.shared());
+    }
+}
@@ -0,0 +1,33 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListPageTest {
+
+    @Test
+    public void translate_FiltersAndTranslatesInOrder() {
+        final AtomicInteger translated = new AtomicInteger();
+
+        final List<String> models = ListPage.translate(Arrays.asList(1, 2, 3, 4, 5), item -> item % 2 == 1, item -> {
+            translated.incrementAndGet();
+            return "model" + item;
+        });
+
+        assertThat(models).containsExactly("model1", "model3", "model5");
+        assertThat(translated.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void translate_EmptyPage() {
+        assertThat(ListPage.<Integer, String>translate(null, item -> true, String::valueOf)).isEmpty();
+        assertThat(ListPage.<Integer, String>translate(Collections.emptyList(), item -> true, String::valueOf))
+            .isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+package software.amazon.nimblestudio.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelFingerprintTest {
+
+    private static final Set<String> NONE = Collections.emptySet();
+
+    private static final class Model {
+        @JsonProperty("Name")
+        private final String name;
+
+        @JsonProperty("Ids")
+        private final Object ids;
+
+        @JsonProperty("Configuration")
+        private final Object configuration;
+
+        Model(final String name, final Object ids, final Object configuration) {
+            this.name = name;
+            this.ids = ids;
+            this.configuration = configuration;
+        }
+    }
+
+    private static Map<String, Object> map(final Object... entries) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put((String) entries[i], entries[i + 1]);
+        }
+        return map;
+    }
+
+    @Test
+    public void of_IsStableHexDigest() {
+        final String fingerprint = ModelFingerprint.of(new Model("name", null, null), NONE);
+
+        assertThat(fingerprint).hasSize(64).matches("[0-9a-f]+");
+        assertThat(ModelFingerprint.of(new Model("name", null, null), NONE)).isEqualTo(fingerprint);
+    }
+
+    @Test
+    public void same_IgnoresPropertyAndElementOrder() {
+        final Model model = new Model("name", Arrays.asList("a", "b", "c"), map("x", 1, "y", Arrays.asList(2, 3)));
+        final Model reordered = new Model("name", Arrays.asList("c", "a", "b"), map("y", Arrays.asList(3, 2), "x", 1));
+
+        assertThat(ModelFingerprint.same(model, reordered, NONE)).isTrue();
+    }
+
+    @Test
+    public void same_TreatsEmptyAsUnset() {
+        final Model unset = new Model("name", null, null);
+
+        assertThat(ModelFingerprint.same(unset, new Model("name", Collections.emptyList(), new HashMap<>()), NONE))
+            .isTrue();
+        assertThat(ModelFingerprint.same(unset, new Model("name", Arrays.asList("", null), map("x", "")), NONE))
+            .isTrue();
+        assertThat(ModelFingerprint.same(new Model(null, null, null), new Model("", null, null), NONE)).isTrue();
+        assertThat(ModelFingerprint.same(null, new Model(null, null, null), NONE)).isTrue();
+    }
+
+    @Test
+    public void same_DetectsChanges() {
+        final Model model = new Model("name", Arrays.asList("a", "b"), map("x", 1));
+
+        assertThat(ModelFingerprint.same(model, new Model("other", Arrays.asList("a", "b"), map("x", 1)), NONE))
+            .isFalse();
+        assertThat(ModelFingerprint.same(model, new Model("name", Arrays.asList("a", "a", "b"), map("x", 1)), NONE))
+            .isFalse();
+        assertThat(ModelFingerprint.same(model, new Model("name", Arrays.asList("a", "b"), map("x", "1")), NONE))
+            .isFalse();
+        assertThat(ModelFingerprint.same(model, new Model("name", Arrays.asList("a", "b"), map("x", 1, "y", true)),
+            NONE)).isFalse();
+    }
+
+    @Test
+    public void same_SkipsIgnoredProperties() {
+        final Model model = new Model("name", Collections.singletonList("a"), null);
+        final Model renamed = new Model("other", Collections.singletonList("a"), null);
+
+        assertThat(ModelFingerprint.same(model, renamed, Collections.singleton("Name"))).isTrue();
+        assertThat(ModelFingerprint.same(model, renamed, Collections.singleton("Ids"))).isFalse();
+    }
+}
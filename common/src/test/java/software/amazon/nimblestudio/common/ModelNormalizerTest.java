@@ -0,0 +1,47 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModelNormalizerTest {
+
+    @Test
+    public void list_KeepsDeclaredOrder() {
+        final List<String> declared = Arrays.asList("b", "a");
+
+        assertThat(ModelNormalizer.list(Arrays.asList("a", "b"), declared)).isSameAs(declared);
+    }
+
+    @Test
+    public void list_KeepsLiveElementsWhenTheyDiffer() {
+        final List<String> live = Arrays.asList("a", "c");
+
+        assertThat(ModelNormalizer.list(live, Arrays.asList("b", "a"))).isSameAs(live);
+        assertThat(ModelNormalizer.list(live, null)).isSameAs(live);
+    }
+
+    @Test
+    public void list_AlignsEmptyWithDeclared() {
+        final List<String> declaredEmpty = new ArrayList<>();
+        final List<String> declared = Collections.singletonList("a");
+        final List<String> liveEmpty = Collections.emptyList();
+
+        assertThat(ModelNormalizer.list(liveEmpty, null)).isNull();
+        assertThat(ModelNormalizer.list(null, declaredEmpty)).isSameAs(declaredEmpty);
+        assertThat(ModelNormalizer.list(liveEmpty, declaredEmpty)).isSameAs(declaredEmpty);
+        assertThat(ModelNormalizer.list(liveEmpty, declared)).isSameAs(liveEmpty);
+    }
+
+    @Test
+    public void withoutDefault_DropsUndeclaredDefault() {
+        assertThat(ModelNormalizer.withoutDefault(690.0, null, 690.0)).isNull();
+        assertThat(ModelNormalizer.withoutDefault(690.0, 690.0, 690.0)).isEqualTo(690.0);
+        assertThat(ModelNormalizer.withoutDefault(60.0, null, 690.0)).isEqualTo(60.0);
+    }
+}
@@ -0,0 +1,51 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.Studio;
+import software.amazon.awssdk.services.nimble.model.StudioState;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class NimbleProxyClientsTest {
+
+    @Test
+    public void decorate_CallsThroughTheProxy() {
+        final AmazonWebServicesClientProxy proxy = mock(AmazonWebServicesClientProxy.class);
+        @SuppressWarnings("unchecked") final ProxyClient<NimbleClient> proxyClient = mock(ProxyClient.class);
+        final GetStudioResponse response = GetStudioResponse.builder()
+            .studio(Studio.builder().studioId("NimbleProxyClientsTest").state(StudioState.READY).build())
+            .build();
+        Mockito.doReturn(proxyClient).when(proxy).newProxy(any());
+        Mockito.doReturn(response).when(proxyClient).injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+
+        final ProxyClient<NimbleClient> client = NimbleProxyClients.decorate(proxy,
+            ResourceHandlerRequest.<Void>builder().awsAccountId("123456789012").region("us-west-2").build(),
+            new InvocationDeadline(new MutableClock(), Duration.ofMinutes(15)), mock(StabilizationContext.class),
+            r -> false);
+        final GetStudioRequest request = GetStudioRequest.builder().studioId("NimbleProxyClientsTest").build();
+
+        assertThat(client.injectCredentialsAndInvokeV2(request, r -> null)).isSameAs(response);
+
+        // The request reaching the proxy is bounded by the invocation deadline
+        final ArgumentCaptor<GetStudioRequest> sent = ArgumentCaptor.forClass(GetStudioRequest.class);
+        verify(proxyClient, times(1)).injectCredentialsAndInvokeV2(sent.capture(), any());
+        assertThat(sent.getValue().studioId()).isEqualTo("NimbleProxyClientsTest");
+        assertThat(sent.getValue().overrideConfiguration().flatMap(c -> c.apiCallTimeout()))
+            .contains(Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,58 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PropertyDiffTest {
+
+    private static final class Model {
+        private final String name;
+        private final List<String> ids;
+
+        Model(final String name, final List<String> ids) {
+            this.name = name;
+            this.ids = ids;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        List<String> getIds() {
+            return ids;
+        }
+    }
+
+    @Test
+    public void changed_ComparesEachProperty() {
+        final PropertyDiff<Model> diff = PropertyDiff.between(
+            new Model("name", Arrays.asList("a", "b")),
+            new Model("renamed", Arrays.asList("b", "a")));
+
+        assertThat(diff.changed(Model::getName)).isTrue();
+        assertThat(diff.changed(Model::getIds)).isFalse();
+    }
+
+    @Test
+    public void changed_TreatsEmptyAsUnset() {
+        final PropertyDiff<Model> diff = PropertyDiff.between(
+            new Model(null, null),
+            new Model("", Collections.emptyList()));
+
+        assertThat(diff.changed(Model::getName)).isFalse();
+        assertThat(diff.changed(Model::getIds)).isFalse();
+    }
+
+    @Test
+    public void changed_WithoutPreviousState() {
+        final PropertyDiff<Model> diff = PropertyDiff.between(null, new Model("name", null));
+
+        assertThat(diff.changed(Model::getName)).isTrue();
+        assertThat(diff.changed(Model::getIds)).isTrue();
+    }
+}
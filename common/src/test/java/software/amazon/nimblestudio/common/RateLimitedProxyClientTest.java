@@ -0,0 +1,154 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.ListStudiosRequest;
+import software.amazon.awssdk.services.nimble.model.ListStudiosResponse;
+import software.amazon.awssdk.services.nimble.model.ThrottlingException;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioRequest;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioResponse;
+import software.amazon.awssdk.services.nimble.model.ValidationException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitedProxyClientTest {
+
+    private static final String SCOPE = RateLimiter.scope("123456789012", "us-west-2");
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private final List<Duration> sleeps = new ArrayList<>();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final MutableClock clock = new MutableClock();
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        rateLimiter = new RateLimiter(nanoTime::get);
+    }
+
+    private RateLimitedProxyClient<NimbleClient> rateLimited(final Duration remainingTime) {
+        return rateLimited("123456789012", remainingTime);
+    }
+
+    private RateLimitedProxyClient<NimbleClient> rateLimited(final String awsAccountId, final Duration remainingTime) {
+        return new RateLimitedProxyClient<>(proxyClient, rateLimiter, awsAccountId, "us-west-2",
+            new InvocationDeadline(clock, remainingTime), sleeps::add);
+    }
+
+    @Test
+    public void pacesCallsBeyondTheBurst() {
+        final UpdateStudioRequest request = UpdateStudioRequest.builder().studioId("studioId").build();
+        final UpdateStudioResponse response = UpdateStudioResponse.builder().build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any())).thenReturn(response);
+
+        final RateLimitedProxyClient<NimbleClient> client = rateLimited(Duration.ofMinutes(1));
+        for (int i = 0; i < 6; i++) {
+            assertThat(client.injectCredentialsAndInvokeV2(request, r -> null)).isSameAs(response);
+        }
+
+        assertThat(sleeps).containsExactly(Duration.ofMillis(200));
+    }
+
+    @Test
+    public void pacesEachAccountOnItsOwn() {
+        final UpdateStudioRequest request = UpdateStudioRequest.builder().studioId("studioId").build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any()))
+            .thenReturn(UpdateStudioResponse.builder().build());
+
+        final RateLimitedProxyClient<NimbleClient> client = rateLimited(Duration.ofMinutes(1));
+        final RateLimitedProxyClient<NimbleClient> otherAccount = rateLimited("210987654321", Duration.ofMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            client.injectCredentialsAndInvokeV2(request, r -> null);
+        }
+        otherAccount.injectCredentialsAndInvokeV2(request, r -> null);
+
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void neverWaitsPastTheDeadline() {
+        final UpdateStudioRequest request = UpdateStudioRequest.builder().studioId("studioId").build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any()))
+            .thenReturn(UpdateStudioResponse.builder().build());
+
+        final RateLimitedProxyClient<NimbleClient> client = rateLimited(Duration.ofSeconds(5));
+        for (int i = 0; i < 6; i++) {
+            client.injectCredentialsAndInvokeV2(request, r -> null);
+        }
+
+        assertThat(sleeps).containsExactly(Duration.ZERO);
+    }
+
+    @Test
+    public void slowsDownWhenThrottled() {
+        final GetStudioRequest request = GetStudioRequest.builder().studioId("studioId").build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenThrow(ThrottlingException.builder().statusCode(429).build())
+            .thenThrow(ValidationException.builder().statusCode(400).build())
+            .thenReturn(GetStudioResponse.builder().build());
+
+        final RateLimitedProxyClient<NimbleClient> client = rateLimited(Duration.ofMinutes(1));
+        assertThrows(ThrottlingException.class, () -> client.injectCredentialsAndInvokeV2(request, r -> null));
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.READ)).isEqualTo(10.0);
+
+        assertThrows(ValidationException.class, () -> client.injectCredentialsAndInvokeV2(request, r -> null));
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.READ)).isEqualTo(10.0);
+
+        client.injectCredentialsAndInvokeV2(request, r -> null);
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.READ)).isEqualTo(10.05);
+    }
+
+    @Test
+    public void recordsAsyncOutcomes() {
+        final GetStudioRequest request = GetStudioRequest.builder().studioId("studioId").build();
+        final CompletableFuture<GetStudioResponse> throttled = new CompletableFuture<>();
+        throttled.completeExceptionally(ThrottlingException.builder().statusCode(429).build());
+        when(proxyClient.injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any()))
+            .thenReturn(throttled)
+            .thenReturn(CompletableFuture.completedFuture(GetStudioResponse.builder().build()));
+
+        final RateLimitedProxyClient<NimbleClient> client = rateLimited(Duration.ofMinutes(1));
+        assertThat(client.injectCredentialsAndInvokeV2Async(request, r -> null)).isCompletedExceptionally();
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.READ)).isEqualTo(10.0);
+
+        assertThat(client.injectCredentialsAndInvokeV2Async(request, r -> null)).isCompleted();
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.READ)).isEqualTo(10.05);
+    }
+
+    @Test
+    public void pacesIterableCalls() {
+        @SuppressWarnings("unchecked") final SdkIterable<ListStudiosResponse> pages = mock(SdkIterable.class);
+        when(proxyClient.injectCredentialsAndInvokeIterableV2(any(ListStudiosRequest.class), any())).thenReturn(pages);
+
+        final RateLimitedProxyClient<NimbleClient> client = rateLimited(Duration.ofMinutes(1));
+        for (int i = 0; i < 21; i++) {
+            assertThat(client.injectCredentialsAndInvokeIterableV2(ListStudiosRequest.builder().build(), r -> pages))
+                .isSameAs(pages);
+        }
+
+        assertThat(sleeps).containsExactly(Duration.ofMillis(50));
+    }
+}
@@ -0,0 +1,112 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.model.DeleteStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.ListStudiosRequest;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioRequest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+
+    private static final String SCOPE = RateLimiter.scope("123456789012", "us-west-2");
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        rateLimiter = new RateLimiter(nanoTime::get);
+    }
+
+    private void advance(final Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    public void operationFamily_SplitsReadsFromMutations() {
+        assertThat(RateLimiter.OperationFamily.of(GetStudioRequest.builder().build()))
+            .isEqualTo(RateLimiter.OperationFamily.READ);
+        assertThat(RateLimiter.OperationFamily.of(ListStudiosRequest.builder().build()))
+            .isEqualTo(RateLimiter.OperationFamily.READ);
+        assertThat(RateLimiter.OperationFamily.of(UpdateStudioRequest.builder().build()))
+            .isEqualTo(RateLimiter.OperationFamily.MUTATION);
+        assertThat(RateLimiter.OperationFamily.of(DeleteStudioRequest.builder().build()))
+            .isEqualTo(RateLimiter.OperationFamily.MUTATION);
+    }
+
+    @Test
+    public void acquire_AllowsBurstThenPaces() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.acquire(SCOPE, RateLimiter.OperationFamily.MUTATION)).isEqualTo(Duration.ZERO);
+        }
+
+        assertThat(rateLimiter.acquire(SCOPE, RateLimiter.OperationFamily.MUTATION)).isEqualTo(Duration.ofMillis(200));
+        assertThat(rateLimiter.acquire(SCOPE, RateLimiter.OperationFamily.MUTATION)).isEqualTo(Duration.ofMillis(400));
+        // Reads have a bucket of their own
+        assertThat(rateLimiter.acquire(SCOPE, RateLimiter.OperationFamily.READ)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void acquire_RefillsOverTime() {
+        for (int i = 0; i < 6; i++) {
+            rateLimiter.acquire(SCOPE, RateLimiter.OperationFamily.MUTATION);
+        }
+
+        advance(Duration.ofMillis(600));
+
+        assertThat(rateLimiter.acquire(SCOPE, RateLimiter.OperationFamily.MUTATION)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void onThrottled_HalvesRateDownToMinimum() {
+        rateLimiter.onThrottled(SCOPE, RateLimiter.OperationFamily.READ);
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.READ)).isEqualTo(10.0);
+
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.onThrottled(SCOPE, RateLimiter.OperationFamily.READ);
+        }
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.READ)).isEqualTo(0.5);
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.MUTATION)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void onSuccess_RecoversRateUpToMaximum() {
+        rateLimiter.onThrottled(SCOPE, RateLimiter.OperationFamily.MUTATION);
+        rateLimiter.onSuccess(SCOPE, RateLimiter.OperationFamily.MUTATION);
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.MUTATION)).isEqualTo(2.55);
+
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.onSuccess(SCOPE, RateLimiter.OperationFamily.MUTATION);
+        }
+        assertThat(rateLimiter.rate(SCOPE, RateLimiter.OperationFamily.MUTATION)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void scopes_HaveBucketsOfTheirOwn() {
+        final String otherAccount = RateLimiter.scope("210987654321", "us-west-2");
+        final String otherRegion = RateLimiter.scope("123456789012", "us-east-1");
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(SCOPE, RateLimiter.OperationFamily.MUTATION);
+        }
+        rateLimiter.onThrottled(SCOPE, RateLimiter.OperationFamily.MUTATION);
+
+        assertThat(rateLimiter.acquire(SCOPE, RateLimiter.OperationFamily.MUTATION)).isGreaterThan(Duration.ZERO);
+        assertThat(rateLimiter.acquire(otherAccount, RateLimiter.OperationFamily.MUTATION)).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.acquire(otherRegion, RateLimiter.OperationFamily.MUTATION)).isEqualTo(Duration.ZERO);
+        assertThat(rateLimiter.rate(otherAccount, RateLimiter.OperationFamily.MUTATION)).isEqualTo(5.0);
+        assertThat(rateLimiter.rate(otherRegion, RateLimiter.OperationFamily.MUTATION)).isEqualTo(5.0);
+    }
+
+    @Test
+    public void shared_IsSingleInstance() {
+        assertThat(RateLimiter.shared()).isSameAs(RateLimiter.shared());
+    }
+}
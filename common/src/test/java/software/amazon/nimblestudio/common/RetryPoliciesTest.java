@@ -0,0 +1,107 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
+import software.amazon.awssdk.services.nimble.model.CreateStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.InternalServerErrorException;
+import software.amazon.awssdk.services.nimble.model.ListStudiosRequest;
+import software.amazon.awssdk.services.nimble.model.ThrottlingException;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioRequest;
+import software.amazon.awssdk.services.nimble.model.ValidationException;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryPoliciesTest {
+
+    private static final SdkRequest GET = GetStudioRequest.builder().build();
+    private static final SdkRequest CREATE = CreateStudioRequest.builder().build();
+    private static final SdkRequest UPDATE = UpdateStudioRequest.builder().build();
+
+    private static RetryPolicyContext context(final SdkRequest request, final SdkException exception,
+                                              final int retriesAttempted) {
+        return RetryPolicyContext.builder()
+            .originalRequest(request)
+            .exception(exception)
+            .retriesAttempted(retriesAttempted)
+            .build();
+    }
+
+    private static SdkException internalError() {
+        return InternalServerErrorException.builder().statusCode(500).build();
+    }
+
+    private static SdkException ioError() {
+        return SdkClientException.builder().cause(new IOException()).build();
+    }
+
+    @Test
+    public void operationKind_SeparatesCreatesFromOtherMutations() {
+        assertThat(RetryPolicies.OperationKind.of(GET)).isEqualTo(RetryPolicies.OperationKind.READ);
+        assertThat(RetryPolicies.OperationKind.of(ListStudiosRequest.builder().build()))
+            .isEqualTo(RetryPolicies.OperationKind.READ);
+        assertThat(RetryPolicies.OperationKind.of(CREATE)).isEqualTo(RetryPolicies.OperationKind.CREATE);
+        assertThat(RetryPolicies.OperationKind.of(UPDATE)).isEqualTo(RetryPolicies.OperationKind.MUTATION);
+    }
+
+    @Test
+    public void errorClass_ClassifiesServiceErrors() {
+        assertThat(RetryPolicies.ErrorClass.of(ThrottlingException.builder().statusCode(429).build()))
+            .isEqualTo(RetryPolicies.ErrorClass.THROTTLING);
+        assertThat(RetryPolicies.ErrorClass.of(ConflictException.builder().statusCode(409).build()))
+            .isEqualTo(RetryPolicies.ErrorClass.CONFLICT);
+        assertThat(RetryPolicies.ErrorClass.of(internalError())).isEqualTo(RetryPolicies.ErrorClass.INTERNAL);
+        assertThat(RetryPolicies.ErrorClass.of(ioError())).isEqualTo(RetryPolicies.ErrorClass.TRANSIENT);
+    }
+
+    @Test
+    public void shouldRetry_ReadsRetryTransientFailuresMoreThanMutations() {
+        assertThat(RetryPolicies.shouldRetry(context(GET, ioError(), 3))).isTrue();
+        assertThat(RetryPolicies.shouldRetry(context(GET, ioError(), 4))).isFalse();
+
+        assertThat(RetryPolicies.shouldRetry(context(UPDATE, ioError(), 1))).isTrue();
+        assertThat(RetryPolicies.shouldRetry(context(UPDATE, ioError(), 2))).isFalse();
+    }
+
+    @Test
+    public void shouldRetry_NeverRetriesConflictsOrNonRetryableErrors() {
+        assertThat(RetryPolicies.shouldRetry(context(UPDATE, ConflictException.builder().statusCode(409).build(), 0)))
+            .isFalse();
+        assertThat(RetryPolicies.shouldRetry(context(GET, ValidationException.builder().statusCode(400).build(), 0)))
+            .isFalse();
+    }
+
+    @Test
+    public void shouldRetry_LeavesThrottledReadsToTheDecorator() {
+        assertThat(RetryPolicies.shouldRetry(context(GET, ThrottlingException.builder().statusCode(429).build(), 0)))
+            .isFalse();
+        assertThat(RetryPolicies.shouldRetry(context(UPDATE, ThrottlingException.builder().statusCode(429).build(), 0)))
+            .isTrue();
+    }
+
+    @Test
+    public void shouldRetry_InternalErrorsOnCreatesRelyOnClientToken() {
+        assertThat(RetryPolicies.shouldRetry(context(CREATE, internalError(), 1))).isTrue();
+        assertThat(RetryPolicies.shouldRetry(context(CREATE, internalError(), 2))).isFalse();
+        assertThat(RetryPolicies.shouldRetry(context(UPDATE, internalError(), 1))).isFalse();
+    }
+
+    @Test
+    public void delayBeforeNextRetry_FollowsTheRuleBackoff() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(RetryPolicies.delayBeforeNextRetry(context(GET, ioError(), 3)))
+                .isLessThanOrEqualTo(Duration.ofSeconds(1));
+            assertThat(RetryPolicies.delayBeforeNextRetry(context(CREATE, internalError(), 1)))
+                .isLessThanOrEqualTo(Duration.ofSeconds(2));
+        }
+        assertThat(RetryPolicies.retryPolicy().numRetries()).isEqualTo(RetryPolicies.MAX_RETRIES);
+    }
+}
@@ -0,0 +1,131 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioRequest;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioResponse;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SingleFlightProxyClientTest {
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    private SingleFlightProxyClient<NimbleClient> forAccount(final String accountId) {
+        return forCaller(SingleFlightProxyClient.caller(accountId, new Credentials("accessKey", "secretKey", "token")));
+    }
+
+    private SingleFlightProxyClient<NimbleClient> forCaller(final String caller) {
+        return new SingleFlightProxyClient<>(proxyClient, singleFlight, caller,
+            new InvocationDeadline(Clock.systemUTC(), Duration.ofMinutes(1)));
+    }
+
+    private static GetStudioRequest getStudio(final String studioId) {
+        return GetStudioRequest.builder().studioId(studioId).build();
+    }
+
+    @Test
+    public void coalescesIdenticalReads() {
+        final CompletableFuture<GetStudioResponse> flight = new CompletableFuture<>();
+        when(proxyClient.injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any())).thenReturn(flight);
+
+        final CompletableFuture<GetStudioResponse> first =
+            forAccount("123456789012").injectCredentialsAndInvokeV2Async(getStudio("studioId"), r -> null);
+        final CompletableFuture<GetStudioResponse> second =
+            forAccount("123456789012").injectCredentialsAndInvokeV2Async(getStudio("studioId"), r -> null);
+
+        final GetStudioResponse response = GetStudioResponse.builder().build();
+        flight.complete(response);
+
+        assertThat(first.join()).isSameAs(response);
+        assertThat(second.join()).isSameAs(response);
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any());
+    }
+
+    @Test
+    public void keepsDifferentRequestsAndAccountsApart() {
+        when(proxyClient.injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any()))
+            .thenReturn(new CompletableFuture<>());
+
+        forAccount("123456789012").injectCredentialsAndInvokeV2Async(getStudio("studioId"), r -> null);
+        forAccount("123456789012").injectCredentialsAndInvokeV2Async(getStudio("otherStudioId"), r -> null);
+        forAccount("210987654321").injectCredentialsAndInvokeV2Async(getStudio("studioId"), r -> null);
+
+        Mockito.verify(proxyClient, Mockito.times(3))
+            .injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any());
+    }
+
+    @Test
+    public void keepsCallersWithOtherCredentialsApart() {
+        when(proxyClient.injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any()))
+            .thenReturn(new CompletableFuture<>());
+
+        forAccount("123456789012").injectCredentialsAndInvokeV2Async(getStudio("studioId"), r -> null);
+        final Credentials otherCredentials = new Credentials("otherAccessKey", "secretKey", "token");
+        forCaller(SingleFlightProxyClient.caller("123456789012", otherCredentials))
+            .injectCredentialsAndInvokeV2Async(getStudio("studioId"), r -> null);
+        forCaller(SingleFlightProxyClient.caller("123456789012", null))
+            .injectCredentialsAndInvokeV2Async(getStudio("studioId"), r -> null);
+        forCaller(SingleFlightProxyClient.caller("123456789012", null))
+            .injectCredentialsAndInvokeV2Async(getStudio("studioId"), r -> null);
+
+        Mockito.verify(proxyClient, Mockito.times(4))
+            .injectCredentialsAndInvokeV2Async(any(GetStudioRequest.class), any());
+    }
+
+    @Test
+    public void caller_KeepsNoCredentials() {
+        assertThat(SingleFlightProxyClient.caller("123456789012", new Credentials("accessKey", "secretKey", "token")))
+            .startsWith("123456789012/")
+            .doesNotContain("accessKey")
+            .isEqualTo(SingleFlightProxyClient.caller("123456789012",
+                new Credentials("accessKey", "otherSecretKey", "otherToken")));
+    }
+
+    @Test
+    public void neverCoalescesMutations() {
+        final UpdateStudioRequest request = UpdateStudioRequest.builder().studioId("studioId").build();
+        when(proxyClient.injectCredentialsAndInvokeV2Async(any(UpdateStudioRequest.class), any()))
+            .thenReturn(new CompletableFuture<>());
+        when(proxyClient.injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any()))
+            .thenReturn(UpdateStudioResponse.builder().build());
+
+        forAccount("123456789012").injectCredentialsAndInvokeV2Async(request, r -> null);
+        forAccount("123456789012").injectCredentialsAndInvokeV2Async(request, r -> null);
+        forAccount("123456789012").injectCredentialsAndInvokeV2(request, r -> null);
+
+        Mockito.verify(proxyClient, Mockito.times(2))
+            .injectCredentialsAndInvokeV2Async(any(UpdateStudioRequest.class), any());
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
+    }
+
+    @Test
+    public void makesSequentialReadsAgain() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenReturn(GetStudioResponse.builder().build());
+
+        forAccount("123456789012").injectCredentialsAndInvokeV2(getStudio("studioId"), r -> null);
+        forAccount("123456789012").injectCredentialsAndInvokeV2(getStudio("studioId"), r -> null);
+
+        Mockito.verify(proxyClient, Mockito.times(2)).injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+    }
+}
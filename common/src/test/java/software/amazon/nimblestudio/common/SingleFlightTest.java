@@ -0,0 +1,114 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SingleFlightTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private void awaitShared(final long count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.sharedCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void execute_SharesCallInFlight() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", WAIT,
+            () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "result";
+            }));
+        started.await(10, TimeUnit.SECONDS);
+
+        final CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", WAIT,
+            () -> {
+                calls.incrementAndGet();
+                return "other";
+            }));
+        awaitShared(1);
+        release.countDown();
+
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(follower.get(10, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_RunsAgainOnceComplete() {
+        assertThat(singleFlight.execute("key", WAIT, () -> "first")).isEqualTo("first");
+        assertThat(singleFlight.execute("key", WAIT, () -> "second")).isEqualTo("second");
+        assertThat(singleFlight.sharedCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void execute_FollowersGetTheFailureAsThrown() throws Exception {
+        final CompletableFuture<String> flight = new CompletableFuture<>();
+        singleFlight.executeAsync("key", () -> flight);
+
+        final CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", WAIT,
+            () -> "other"));
+        awaitShared(1);
+        flight.completeExceptionally(new IllegalStateException("failed"));
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> follower.get(10, TimeUnit.SECONDS));
+        assertThat(e.getCause()).isInstanceOf(IllegalStateException.class).hasMessage("failed");
+    }
+
+    @Test
+    public void execute_CallsItselfOnceTheWaitIsOver() {
+        singleFlight.executeAsync("key", CompletableFuture::new);
+
+        assertThat(singleFlight.execute("key", Duration.ofMillis(10), () -> "own")).isEqualTo("own");
+        assertThat(singleFlight.sharedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void executeAsync_SharesCallInFlight() {
+        final CompletableFuture<String> flight = new CompletableFuture<>();
+
+        final CompletableFuture<String> first = singleFlight.executeAsync("key", () -> flight);
+        final CompletableFuture<String> second = singleFlight.executeAsync("key", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        final CompletableFuture<String> unrelated = singleFlight.executeAsync("other key",
+            () -> CompletableFuture.completedFuture("unrelated"));
+
+        assertThat(second).isNotDone();
+        flight.complete("result");
+
+        assertThat(first.join()).isEqualTo("result");
+        assertThat(second.join()).isEqualTo("result");
+        assertThat(unrelated.join()).isEqualTo("unrelated");
+        assertThat(calls.get()).isEqualTo(0);
+        assertThat(singleFlight.sharedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shared_IsSingleInstance() {
+        assertThat(SingleFlight.shared()).isSameAs(SingleFlight.shared());
+    }
+}
@@ -0,0 +1,50 @@
+package software.amazon.nimblestudio.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationEstimatorTest {
+
+    @Test
+    public void estimate_EmptyUntilEnoughSamples() {
+        final StabilizationEstimator estimator = new StabilizationEstimator(3);
+
+        assertThat(estimator.estimate("key", 0.5)).isEmpty();
+        estimator.record("key", Duration.ofMinutes(10));
+        estimator.record("key", Duration.ofMinutes(10));
+        assertThat(estimator.estimate("key", 0.5)).isEmpty();
+
+        estimator.record("key", Duration.ofMinutes(10));
+        assertThat(estimator.estimate("key", 0.5).get())
+            .isBetween(Duration.ofMinutes(9), Duration.ofMinutes(10));
+        assertThat(estimator.estimate("other", 0.5)).isEmpty();
+    }
+
+    @Test
+    public void estimate_Quantiles() {
+        final StabilizationEstimator estimator = new StabilizationEstimator(1);
+        for (int minutes = 1; minutes <= 100; minutes++) {
+            estimator.record("key", Duration.ofMinutes(minutes));
+        }
+
+        assertThat(estimator.estimate("key", 0.5).get()).isBetween(Duration.ofMinutes(45), Duration.ofMinutes(50));
+        assertThat(estimator.estimate("key", 0.9).get()).isBetween(Duration.ofMinutes(81), Duration.ofMinutes(90));
+        assertThat(estimator.estimate("key", 0.0).get()).isBetween(Duration.ofSeconds(54), Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void sketch_EmptyIsZero() {
+        assertThat(new DurationSketch().quantile(0.5)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void sketch_ClampsToOuterBuckets() {
+        assertThat(DurationSketch.bucketOf(Duration.ZERO)).isEqualTo(0);
+        assertThat(DurationSketch.bucketOf(Duration.ofMillis(1500))).isEqualTo(4);
+        assertThat(DurationSketch.bucketOf(Duration.ofDays(365))).isEqualTo(127);
+        assertThat(DurationSketch.lowerBound(0)).isEqualTo(Duration.ofSeconds(1));
+    }
+}
@@ -0,0 +1,284 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.model.LaunchProfile;
+import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
+import software.amazon.awssdk.services.nimble.model.LaunchProfileStatusCode;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class StabilizerTest {
+
+    private final Logger logger = mock(Logger.class);
+    private final MutableClock clock = new MutableClock();
+    private final StabilizationEstimator estimator = new StabilizationEstimator(1);
+    private final Context context = new Context();
+    private final InvocationDeadline deadline = new InvocationDeadline(clock, Duration.ofHours(1));
+
+    private final Stabilizer<LaunchProfile, LaunchProfileState> stabilizer = Stabilizer
+        .<LaunchProfile, LaunchProfileState>builder("AWS::NimbleStudio::LaunchProfile", LaunchProfile::state,
+            launchProfile -> String.format("%s: %s - %s", launchProfile.stateAsString(),
+                launchProfile.statusCodeAsString(), launchProfile.statusMessage()))
+        .operation("creation")
+        .succeededOn(LaunchProfileState.READY)
+        .inProgressOn(LaunchProfileState.CREATE_IN_PROGRESS)
+        .failedOn(LaunchProfileState.CREATE_FAILED)
+        .polling(Duration.ofSeconds(1), Duration.ofSeconds(4))
+        .timeout(Duration.ofMinutes(1))
+        .estimator(estimator)
+        .clock(clock)
+        .build();
+
+    private static final class Context implements StabilizationContext {
+        private Long stabilizationStartedAt;
+        private Long stabilizationPollAt;
+        private boolean stabilizationSeenInProgress;
+
+        @Override
+        public Long getStabilizationStartedAt() {
+            return stabilizationStartedAt;
+        }
+
+        @Override
+        public void setStabilizationStartedAt(final Long stabilizationStartedAt) {
+            this.stabilizationStartedAt = stabilizationStartedAt;
+        }
+
+        @Override
+        public Long getStabilizationPollAt() {
+            return stabilizationPollAt;
+        }
+
+        @Override
+        public void setStabilizationPollAt(final Long stabilizationPollAt) {
+            this.stabilizationPollAt = stabilizationPollAt;
+        }
+
+        @Override
+        public boolean isStabilizationSeenInProgress() {
+            return stabilizationSeenInProgress;
+        }
+
+        @Override
+        public void setStabilizationSeenInProgress(final boolean stabilizationSeenInProgress) {
+            this.stabilizationSeenInProgress = stabilizationSeenInProgress;
+        }
+    }
+
+    private static LaunchProfile launchProfile(final LaunchProfileState state) {
+        return LaunchProfile.builder()
+            .launchProfileId("launchProfileId")
+            .state(state)
+            .statusCode(LaunchProfileStatusCode.LAUNCH_PROFILE_CREATED)
+            .statusMessage("message")
+            .build();
+    }
+
+    @Test
+    public void classify() {
+        assertThat(stabilizer.classify(LaunchProfileState.READY)).isEqualTo(Stabilizer.Outcome.SUCCEEDED);
+        assertThat(stabilizer.classify(LaunchProfileState.CREATE_IN_PROGRESS))
+            .isEqualTo(Stabilizer.Outcome.IN_PROGRESS);
+        assertThat(stabilizer.classify(LaunchProfileState.CREATE_FAILED)).isEqualTo(Stabilizer.Outcome.FAILED);
+        assertThat(stabilizer.classify(LaunchProfileState.DELETED)).isEqualTo(Stabilizer.Outcome.UNEXPECTED);
+        assertThat(stabilizer.classify(null)).isEqualTo(Stabilizer.Outcome.UNEXPECTED);
+    }
+
+    @Test
+    public void isStabilized_InProgressThenSucceeded() {
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> run = stabilizer.begin(context, deadline);
+
+        assertThat(run.isHoldingOff()).isFalse();
+        assertThat(run.isStabilized("launchProfileId", launchProfile(LaunchProfileState.CREATE_IN_PROGRESS), logger))
+            .isFalse();
+        assertThat(context.getStabilizationStartedAt()).isEqualTo(clock.millis());
+        assertThat(context.isStabilizationSeenInProgress()).isTrue();
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(run.isStabilized("launchProfileId", launchProfile(LaunchProfileState.READY), logger)).isTrue();
+        assertThat(context.getStabilizationStartedAt()).isNull();
+
+        verify(logger).log("AWS::NimbleStudio::LaunchProfile [launchProfileId] is in state CREATE_IN_PROGRESS, "
+            + "creation in progress");
+        verify(logger).log("AWS::NimbleStudio::LaunchProfile [launchProfileId] is in state READY, creation succeeded "
+            + "after 30 seconds");
+    }
+
+    @Test
+    public void isStabilized_RecordsDurationPerFeatures() {
+        stabilizer.begin(context, deadline, "components=2").isStabilized("launchProfileId",
+            launchProfile(LaunchProfileState.CREATE_IN_PROGRESS), logger);
+        clock.advance(Duration.ofMinutes(10));
+        stabilizer.begin(context, deadline, "components=2").isStabilized("launchProfileId",
+            launchProfile(LaunchProfileState.READY), logger);
+
+        assertThat(estimator.estimate("AWS::NimbleStudio::LaunchProfile/creation/components=2", 0.5).get())
+            .isBetween(Duration.ofMinutes(9), Duration.ofMinutes(10));
+        assertThat(estimator.estimate("AWS::NimbleStudio::LaunchProfile/creation/", 0.5)).isEmpty();
+        assertThat(context.isStabilizationSeenInProgress()).isFalse();
+    }
+
+    @Test
+    public void isStabilized_NoSampleWhenFirstSeenSucceeded() {
+        estimator.record("AWS::NimbleStudio::LaunchProfile/creation/", Duration.ofSeconds(50));
+        final Duration longest = estimator.estimate("AWS::NimbleStudio::LaunchProfile/creation/", 1.0).get();
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> run = stabilizer.begin(context, deadline);
+        assertThat(run.isHoldingOff()).isTrue();
+
+        // Found done once the hold-off is over, it may have been done for a while, so the estimate is left alone
+        clock.advance(Duration.ofMinutes(2));
+        assertThat(run.isStabilized("launchProfileId", launchProfile(LaunchProfileState.READY), logger)).isTrue();
+
+        assertThat(estimator.estimate("AWS::NimbleStudio::LaunchProfile/creation/", 1.0)).contains(longest);
+    }
+
+    @Test
+    public void begin_HoldsOffUntilExpectedCompletion() {
+        estimator.record("AWS::NimbleStudio::LaunchProfile/creation/", Duration.ofSeconds(50));
+
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> run = stabilizer.begin(context, deadline);
+        assertThat(run.isHoldingOff()).isTrue();
+        assertThat(run.nextDelay(0)).isBetween(Duration.ofSeconds(45), Duration.ofSeconds(50));
+
+        clock.advance(Duration.ofSeconds(50));
+        assertThat(run.isHoldingOff()).isFalse();
+        assertThat(run.nextDelay(1)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+        assertThat(context.getStabilizationPollAt()).isNull();
+    }
+
+    @Test
+    public void isHoldingOff_DefersLongWaits() {
+        estimator.record("AWS::NimbleStudio::LaunchProfile/creation/", Duration.ofMinutes(10));
+        final ProgressEvent<String, Context> progress = ProgressEvent.progress("model", context);
+
+        final ProgressEvent<String, Context> deferred = stabilizer.begin(context, deadline)
+            .<String, Context>deferrable(p -> {
+                stabilizer.begin(context, deadline).isHoldingOff();
+                return ProgressEvent.success("done", context);
+            }).apply(progress);
+
+        assertThat(deferred.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(deferred.getCallbackDelaySeconds()).isBetween(540, 600);
+        assertThat(deferred.getResourceModel()).isEqualTo("model");
+        assertThat(context.getStabilizationPollAt()).isBetween(
+            clock.millis() + (deferred.getCallbackDelaySeconds() - 1) * 1000L,
+            clock.millis() + deferred.getCallbackDelaySeconds() * 1000L);
+
+        // Called back after the delay, the run keeps the deferred schedule even though the estimate moved meanwhile
+        clock.advance(Duration.ofSeconds(deferred.getCallbackDelaySeconds() - 30));
+        estimator.record("AWS::NimbleStudio::LaunchProfile/creation/", Duration.ofHours(1));
+        estimator.record("AWS::NimbleStudio::LaunchProfile/creation/", Duration.ofHours(1));
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> resumed = stabilizer.begin(context, deadline);
+        assertThat(resumed.isHoldingOff()).isTrue();
+        assertThat(resumed.nextDelay(0)).isEqualTo(Duration.ofSeconds(30));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(resumed.isHoldingOff()).isFalse();
+        assertThat(resumed.isStabilized("launchProfileId", launchProfile(LaunchProfileState.READY), logger)).isTrue();
+        assertThat(context.getStabilizationStartedAt()).isNull();
+        assertThat(context.getStabilizationPollAt()).isNull();
+    }
+
+    @Test
+    public void isHoldingOff_YieldsNearDeadline() {
+        final InvocationDeadline closeDeadline = new InvocationDeadline(clock, Duration.ofSeconds(30));
+        final ProgressEvent<String, Context> progress = ProgressEvent.progress("model", context);
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> run = stabilizer.begin(context, closeDeadline);
+
+        assertThat(run.isHoldingOff()).isFalse();
+
+        clock.advance(Duration.ofSeconds(20));
+        final ProgressEvent<String, Context> yielded = run.<String, Context>deferrable(p -> {
+            run.isHoldingOff();
+            return ProgressEvent.success("done", context);
+        }).apply(progress);
+
+        assertThat(yielded.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(yielded.getCallbackDelaySeconds()).isEqualTo(1);
+        assertThat(context.getStabilizationStartedAt()).isEqualTo(clock.millis() - 20_000L);
+        assertThat(context.getStabilizationPollAt()).isNull();
+    }
+
+    @Test
+    public void deferrable_PassesThroughChainResult() {
+        final ProgressEvent<String, Context> done = ProgressEvent.success("done", context);
+
+        assertThat(stabilizer.begin(context, deadline).<String, Context>deferrable(p -> done)
+            .apply(ProgressEvent.progress("model", context))).isSameAs(done);
+    }
+
+    @Test
+    public void begin_ResumesHoldOffAfterCallback() {
+        estimator.record("AWS::NimbleStudio::LaunchProfile/creation/", Duration.ofSeconds(50));
+        assertThat(stabilizer.begin(context, deadline).isHoldingOff()).isTrue();
+
+        // The start time survives a callback, so a new run resumes the same hold-off
+        clock.advance(Duration.ofSeconds(20));
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> resumed = stabilizer.begin(context, deadline);
+        assertThat(resumed.isHoldingOff()).isTrue();
+        assertThat(resumed.nextDelay(0)).isBetween(Duration.ofSeconds(25), Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void begin_NoHoldOffWhenExpectedWithinFirstInterval() {
+        estimator.record("AWS::NimbleStudio::LaunchProfile/creation/", Duration.ZERO);
+
+        assertThat(stabilizer.begin(context, deadline).isHoldingOff()).isFalse();
+    }
+
+    @Test
+    public void isStabilized_StateChangeResetsDelay() {
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> run = stabilizer.begin(context, deadline);
+
+        run.isStabilized("launchProfileId", launchProfile(LaunchProfileState.CREATE_IN_PROGRESS), logger);
+        assertThat(run.nextDelay(3)).isBetween(Duration.ofSeconds(2), Duration.ofSeconds(4));
+
+        run.isStabilized("launchProfileId", launchProfile(LaunchProfileState.READY), logger);
+        assertThat(run.nextDelay(4)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+    }
+
+    @Test
+    public void isStabilized_FailedState() {
+        final CfnGeneralServiceException exception = assertThrows(CfnGeneralServiceException.class,
+            () -> stabilizer.begin(context, deadline).isStabilized("launchProfileId",
+                launchProfile(LaunchProfileState.CREATE_FAILED), logger));
+
+        assertThat(exception.getMessage()).contains("Unexpected state CREATE_FAILED: LAUNCH_PROFILE_CREATED - message");
+        verify(logger).log("AWS::NimbleStudio::LaunchProfile [launchProfileId] is in error state CREATE_FAILED, "
+            + "creation failed");
+    }
+
+    @Test
+    public void isStabilized_UnexpectedState() {
+        assertThrows(CfnGeneralServiceException.class,
+            () -> stabilizer.begin(context, deadline).isStabilized("launchProfileId",
+                launchProfile(LaunchProfileState.DELETED), logger));
+
+        verify(logger).log("AWS::NimbleStudio::LaunchProfile [launchProfileId] is in unexpected state DELETED, "
+            + "creation failed");
+    }
+
+    @Test
+    public void builderDefaults() {
+        final Stabilizer<LaunchProfile, LaunchProfileState> defaults = Stabilizer
+            .<LaunchProfile, LaunchProfileState>builder("type", LaunchProfile::state, LaunchProfile::stateAsString)
+            .succeededOn(LaunchProfileState.READY)
+            .build();
+
+        final Stabilizer.Run<LaunchProfile, LaunchProfileState> run = defaults.begin(new Context(), deadline);
+        assertThat(run.nextDelay(0)).isBetween(Duration.ofMillis(2500), Duration.ofSeconds(5));
+        assertThat(run.isStabilized("id", launchProfile(LaunchProfileState.READY), logger)).isTrue();
+        verify(logger).log(startsWith("type [id] is in state READY, stabilization succeeded after "));
+    }
+}
@@ -0,0 +1,104 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.ThrottlingException;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioRequest;
+import software.amazon.awssdk.services.nimble.model.ValidationException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ThrottleRetryProxyClientTest {
+
+    private static final GetStudioRequest GET_REQUEST = GetStudioRequest.builder().studioId("studioId").build();
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private final List<Duration> sleeps = new ArrayList<>();
+
+    private ThrottleRetryProxyClient<NimbleClient> retrying(final Duration remainingTime, final double random) {
+        return new ThrottleRetryProxyClient<>(proxyClient, new InvocationDeadline(new MutableClock(), remainingTime),
+            () -> random, sleeps::add);
+    }
+
+    private static ThrottlingException throttle() {
+        return ThrottlingException.builder().statusCode(429).build();
+    }
+
+    @Test
+    public void retriesThrottledReads() {
+        final GetStudioResponse response = GetStudioResponse.builder().build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenThrow(throttle())
+            .thenThrow(throttle())
+            .thenReturn(response);
+        final long absorbed = ThrottleRetryProxyClient.absorbedCount();
+
+        assertThat(retrying(Duration.ofMinutes(1), 0.5).injectCredentialsAndInvokeV2(GET_REQUEST, r -> null))
+            .isSameAs(response);
+
+        assertThat(sleeps).containsExactly(Duration.ofMillis(400), Duration.ofMillis(700));
+        assertThat(ThrottleRetryProxyClient.absorbedCount()).isEqualTo(absorbed + 2);
+    }
+
+    @Test
+    public void capsTheDelay() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenThrow(throttle())
+            .thenThrow(throttle())
+            .thenThrow(throttle())
+            .thenThrow(throttle())
+            .thenReturn(GetStudioResponse.builder().build());
+
+        retrying(Duration.ofMinutes(1), 1.0).injectCredentialsAndInvokeV2(GET_REQUEST, r -> null);
+
+        assertThat(sleeps).containsExactly(Duration.ofMillis(600), Duration.ofMillis(1800), Duration.ofMillis(5400),
+            Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void surfacesThrottleWhenOutOfTime() {
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any())).thenThrow(throttle());
+        final long surfaced = ThrottleRetryProxyClient.surfacedCount();
+
+        final ThrottleRetryProxyClient<NimbleClient> client = retrying(Duration.ofSeconds(15), 0.5);
+        assertThrows(ThrottlingException.class, () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+
+        assertThat(sleeps).isEmpty();
+        assertThat(ThrottleRetryProxyClient.surfacedCount()).isEqualTo(surfaced + 1);
+        assertThat(ThrottleRetryProxyClient.describeUsage()).contains("surfaced " + (surfaced + 1));
+    }
+
+    @Test
+    public void leavesOtherFailuresAndMutationsAlone() {
+        final UpdateStudioRequest updateRequest = UpdateStudioRequest.builder().studioId("studioId").build();
+        when(proxyClient.injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any())).thenThrow(throttle());
+        when(proxyClient.injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any()))
+            .thenThrow(ValidationException.builder().statusCode(400).build());
+
+        final ThrottleRetryProxyClient<NimbleClient> client = retrying(Duration.ofMinutes(1), 0.5);
+        assertThrows(ThrottlingException.class, () -> client.injectCredentialsAndInvokeV2(updateRequest, r -> null));
+        assertThrows(ValidationException.class, () -> client.injectCredentialsAndInvokeV2(GET_REQUEST, r -> null));
+
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
+        Mockito.verify(proxyClient).injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+        assertThat(sleeps).isEmpty();
+    }
+}
@@ -0,0 +1,241 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.NimbleClient;
+import software.amazon.awssdk.services.nimble.model.ConflictException;
+import software.amazon.awssdk.services.nimble.model.GetLaunchProfileRequest;
+import software.amazon.awssdk.services.nimble.model.GetLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.GetStudioRequest;
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+import software.amazon.awssdk.services.nimble.model.LaunchProfile;
+import software.amazon.awssdk.services.nimble.model.LaunchProfileState;
+import software.amazon.awssdk.services.nimble.model.ListLaunchProfilesRequest;
+import software.amazon.awssdk.services.nimble.model.ListLaunchProfilesResponse;
+import software.amazon.awssdk.services.nimble.model.UpdateLaunchProfileRequest;
+import software.amazon.awssdk.services.nimble.model.UpdateLaunchProfileResponse;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioRequest;
+import software.amazon.awssdk.services.nimble.model.UpdateStudioResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class WarmResponseCacheProxyClientTest {
+
+    private static final GetLaunchProfileRequest GET_REQUEST = GetLaunchProfileRequest.builder()
+        .studioId("studioId")
+        .launchProfileId("launchProfileId")
+        .build();
+
+    @Mock
+    private ProxyClient<NimbleClient> proxyClient;
+
+    private final WarmResponseCache cache = new WarmResponseCache(System::nanoTime, 16, Duration.ofMinutes(1));
+    private final AtomicBoolean stabilizing = new AtomicBoolean();
+
+    @BeforeEach
+    public void setup() {
+        Mockito.lenient().doReturn(getResponse(LaunchProfileState.READY)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    private WarmResponseCacheProxyClient<NimbleClient> forAccount(final String accountId) {
+        return forCaller(accountId, accountId + "/accessKeyDigest");
+    }
+
+    private WarmResponseCacheProxyClient<NimbleClient> forCaller(final String accountId, final String caller) {
+        return new WarmResponseCacheProxyClient<>(proxyClient, cache, accountId, caller, "us-west-2",
+            response -> response instanceof GetLaunchProfileResponse
+                && ((GetLaunchProfileResponse) response).launchProfile().state() == LaunchProfileState.READY,
+            stabilizing::get);
+    }
+
+    private static GetLaunchProfileResponse getResponse(final LaunchProfileState state) {
+        return GetLaunchProfileResponse.builder()
+            .launchProfile(LaunchProfile.builder().launchProfileId("launchProfileId").state(state).build())
+            .build();
+    }
+
+    private GetLaunchProfileResponse get(final String accountId) {
+        return forAccount(accountId).injectCredentialsAndInvokeV2(GET_REQUEST, r -> null);
+    }
+
+    @Test
+    public void get_ServesCacheableResponseToLaterInvocations() {
+        final GetLaunchProfileResponse first = get("123456789012");
+        final GetLaunchProfileResponse second = get("123456789012");
+
+        assertThat(second).isSameAs(first);
+        verify(proxyClient).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void get_KeepsAccountsApart() {
+        get("123456789012");
+        get("210987654321");
+
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void get_KeepsCallersApart() {
+        forCaller("123456789012", "123456789012/accessKeyDigest").injectCredentialsAndInvokeV2(GET_REQUEST, r -> null);
+        forCaller("123456789012", "123456789012/otherAccessKeyDigest")
+            .injectCredentialsAndInvokeV2(GET_REQUEST, r -> null);
+
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void get_BypassesTheCacheWithoutCredentials() {
+        forCaller("123456789012", null).injectCredentialsAndInvokeV2(GET_REQUEST, r -> null);
+        forCaller("123456789012", null).injectCredentialsAndInvokeV2(GET_REQUEST, r -> null);
+
+        assertThat(cache.size()).isEqualTo(0);
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void get_SkipsResponsesNotAccepted() {
+        Mockito.doReturn(getResponse(LaunchProfileState.UPDATE_IN_PROGRESS)).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+
+        get("123456789012");
+        get("123456789012");
+
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void get_GoesToTheServiceWhileStabilizing() {
+        get("123456789012");
+        stabilizing.set(true);
+        get("123456789012");
+        get("123456789012");
+
+        verify(proxyClient, times(3)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void get_LeavesOtherReadsAlone() {
+        final GetStudioRequest getStudio = GetStudioRequest.builder().studioId("studioId").build();
+        Mockito.doReturn(GetStudioResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+        final ListLaunchProfilesRequest list = ListLaunchProfilesRequest.builder().studioId("studioId").build();
+        Mockito.doReturn(ListLaunchProfilesResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(ListLaunchProfilesRequest.class), any());
+
+        forAccount("123456789012").injectCredentialsAndInvokeV2(getStudio, r -> null);
+        forAccount("123456789012").injectCredentialsAndInvokeV2(getStudio, r -> null);
+        forAccount("123456789012").injectCredentialsAndInvokeV2(list, r -> null);
+        forAccount("123456789012").injectCredentialsAndInvokeV2(list, r -> null);
+
+        assertThat(cache.size()).isEqualTo(0);
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetStudioRequest.class), any());
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(ListLaunchProfilesRequest.class), any());
+    }
+
+    @Test
+    public void mutation_InvalidatesTheResource() {
+        Mockito.doReturn(UpdateLaunchProfileResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
+        get("123456789012");
+
+        forAccount("123456789012").injectCredentialsAndInvokeV2(UpdateLaunchProfileRequest.builder()
+            .studioId("studioId")
+            .launchProfileId("launchProfileId")
+            .build(), r -> null);
+        get("123456789012");
+
+        verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void mutation_InvalidatesWhatOtherCallersCached() {
+        Mockito.doReturn(UpdateLaunchProfileResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
+        get("123456789012");
+
+        forCaller("123456789012", "123456789012/otherAccessKeyDigest")
+            .injectCredentialsAndInvokeV2(UpdateLaunchProfileRequest.builder()
+                .studioId("studioId")
+                .launchProfileId("launchProfileId")
+                .build(), r -> null);
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void mutation_OfOtherResourceKeepsTheEntry() {
+        Mockito.doReturn(UpdateLaunchProfileResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
+        get("123456789012");
+
+        forAccount("123456789012").injectCredentialsAndInvokeV2(UpdateLaunchProfileRequest.builder()
+            .studioId("studioId")
+            .launchProfileId("otherLaunchProfileId")
+            .build(), r -> null);
+        get("123456789012");
+
+        verify(proxyClient).injectCredentialsAndInvokeV2(any(GetLaunchProfileRequest.class), any());
+    }
+
+    @Test
+    public void mutation_OfStudioInvalidatesEverythingInIt() {
+        Mockito.doReturn(UpdateStudioResponse.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateStudioRequest.class), any());
+        get("123456789012");
+
+        forAccount("123456789012").injectCredentialsAndInvokeV2(
+            UpdateStudioRequest.builder().studioId("studioId").build(), r -> null);
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void mutation_FailedStillInvalidates() {
+        Mockito.doThrow(ConflictException.builder().build()).when(proxyClient)
+            .injectCredentialsAndInvokeV2(any(UpdateLaunchProfileRequest.class), any());
+        get("123456789012");
+
+        assertThrows(ConflictException.class, () -> forAccount("123456789012").injectCredentialsAndInvokeV2(
+            UpdateLaunchProfileRequest.builder().studioId("studioId").launchProfileId("launchProfileId").build(),
+            r -> null));
+
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void mutationAsync_InvalidatesOnceComplete() {
+        final CompletableFuture<UpdateLaunchProfileResponse> update = new CompletableFuture<>();
+        Mockito.doReturn(update).when(proxyClient)
+            .injectCredentialsAndInvokeV2Async(any(UpdateLaunchProfileRequest.class), any());
+
+        final CompletableFuture<UpdateLaunchProfileResponse> response = forAccount("123456789012")
+            .injectCredentialsAndInvokeV2Async(UpdateLaunchProfileRequest.builder()
+                .studioId("studioId")
+                .launchProfileId("launchProfileId")
+                .build(), r -> null);
+        get("123456789012");
+        assertThat(cache.size()).isEqualTo(1);
+
+        update.complete(UpdateLaunchProfileResponse.builder().build());
+
+        assertThat(response).isCompleted();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,59 @@
+package software.amazon.nimblestudio.common;
+
+import software.amazon.awssdk.services.nimble.model.GetStudioResponse;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WarmResponseCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(15);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final WarmResponseCache cache = new WarmResponseCache(nanoTime::get, 2, TTL);
+
+    @Test
+    public void expiresEntries() {
+        final GetStudioResponse response = GetStudioResponse.builder().build();
+        cache.put("a/", response);
+
+        nanoTime.addAndGet(TTL.toNanos() - 1);
+        assertThat(cache.get("a/")).containsSame(response);
+
+        nanoTime.addAndGet(1);
+        assertThat(cache.get("a/")).isEmpty();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        cache.put("a/", GetStudioResponse.builder().build());
+        cache.put("b/", GetStudioResponse.builder().build());
+        cache.get("a/");
+        cache.put("c/", GetStudioResponse.builder().build());
+
+        assertThat(cache.get("a/")).isPresent();
+        assertThat(cache.get("b/")).isEmpty();
+        assertThat(cache.get("c/")).isPresent();
+    }
+
+    @Test
+    public void invalidatesByPrefix() {
+        cache.put("account/region/studioId/GetStudio", GetStudioResponse.builder().build());
+        cache.put("account/region/otherStudioId/GetStudio", GetStudioResponse.builder().build());
+
+        cache.invalidate("account/region/studioId/");
+
+        assertThat(cache.get("account/region/studioId/GetStudio")).isEmpty();
+        assertThat(cache.get("account/region/otherStudioId/GetStudio")).isPresent();
+    }
+
+    @Test
+    public void shared_IsSingleInstance() {
+        assertThat(WarmResponseCache.shared()).isSameAs(WarmResponseCache.shared());
+    }
+}